@@ -30,6 +30,26 @@ public class BallotBoxXMLSource<T> extends DelegateXMLSource {
         return ballotBox.getLastModDate(path);
     }
 
+    /**
+     * The outcome of resolving the votes for one path, computed by {@link #resolveValue} but not
+     * yet applied to this source.
+     */
+    static final class ResolvedValue {
+        final String path;
+        final String fullPath;
+        final String value;
+        /** the VoteResolver used, if any, for recycling */
+        final VoteResolver<String> resolver;
+
+        ResolvedValue(
+                String path, String fullPath, String value, VoteResolver<String> resolver) {
+            this.path = path;
+            this.fullPath = fullPath;
+            this.value = value;
+            this.resolver = resolver;
+        }
+    }
+
     /**
      * Set the value for the given path for this DataBackedSource, using the given VoteResolver.
      * This is the bottleneck for processing values.
@@ -44,6 +64,26 @@ public class BallotBoxXMLSource<T> extends DelegateXMLSource {
             VoteResolver<String> resolver,
             STFactory.VoteLoadingContext voteLoadingContext,
             STFactory.PerLocaleData.PerXPathData xpd) {
+        final ResolvedValue resolved = resolveValue(path, resolver, voteLoadingContext, xpd);
+        applyResolvedValue(resolved);
+        return resolved.resolver;
+    }
+
+    /**
+     * Compute the winning value and full path for the given path, without modifying this source.
+     * This only reads the disk data and the ballot box, so it may be called for different paths
+     * from several threads at once, as long as no votes are being added at the same time.
+     *
+     * @param path the xpath
+     * @param resolver the VoteResolver (for recycling), or null
+     * @param voteLoadingContext the VoteLoadingContext
+     * @return the ResolvedValue, to be passed to {@link #applyResolvedValue}
+     */
+    ResolvedValue resolveValue(
+            String path,
+            VoteResolver<String> resolver,
+            STFactory.VoteLoadingContext voteLoadingContext,
+            STFactory.PerLocaleData.PerXPathData xpd) {
         String value;
         String fullPath;
         /*
@@ -72,11 +112,19 @@ public class BallotBoxXMLSource<T> extends DelegateXMLSource {
             value = resolver.getWinningValue();
             fullPath = getFullPathWithResolver(path, resolver);
         }
-        delegate.removeValueAtDPath(path);
-        if (value != null) {
-            delegate.putValueAtPath(fullPath, value);
+        return new ResolvedValue(path, fullPath, value, resolver);
+    }
+
+    /**
+     * Store a value computed by {@link #resolveValue} into this source. Not thread safe.
+     *
+     * @param resolved the ResolvedValue
+     */
+    void applyResolvedValue(ResolvedValue resolved) {
+        delegate.removeValueAtDPath(resolved.path);
+        if (resolved.value != null) {
+            delegate.putValueAtPath(resolved.fullPath, resolved.value);
         }
-        return resolver;
     }
 
     private String getFullPathWithResolver(String path, VoteResolver<String> resolver) {
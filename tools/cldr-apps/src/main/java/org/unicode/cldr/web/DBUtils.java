@@ -636,10 +636,10 @@ public class DBUtils {
             if (connectionUrl != null) {
                 Connection c = getDBConnectionFor(connectionUrl);
                 c.setAutoCommit(true);
-                return c;
+                return SurveyInstrumentation.wrap(c);
             }
             db_number_open++;
-            return datasource.getConnection();
+            return SurveyInstrumentation.wrap(datasource.getConnection());
         } catch (SQLException se) {
             se.printStackTrace();
             SurveyMain.busted("Fatal in getAConnection()", se);
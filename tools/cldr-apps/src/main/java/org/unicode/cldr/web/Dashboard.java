@@ -249,6 +249,10 @@ public class Dashboard {
             args.setUserAndOrganization(UserRegistry.NO_USER, usersOrg);
         }
         args.setFiles(locale, sourceFactory, sm.getDiskFactory());
+        args.setPathCache(
+                sourceFactory
+                        .getDashboardCache()
+                        .get(locale, args.getSourceFile(), usersOrg, coverageLevel));
         if (xpath != null) {
             args.setXpath(xpath);
         }
@@ -0,0 +1,108 @@
+package org.unicode.cldr.web;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Level;
+import org.unicode.cldr.util.Organization;
+import org.unicode.cldr.util.VettingViewer.PathNotifications;
+import org.unicode.cldr.util.XMLSource;
+
+/**
+ * Cache of the Dashboard notifications for each path, by locale, organization, and coverage level,
+ * so that reloading the Dashboard after a vote only recomputes the paths that changed. The parts
+ * of the Dashboard which depend on the user (abstained, voter progress) are not cached.
+ *
+ * <ul>
+ *   <li>A vote invalidates its path, since it can change the vote status for any organization.
+ *   <li>A change in a winning value (reported to this {@link XMLSource.Listener}) invalidates its
+ *       path in the locale and its sublocales, which may inherit the value.
+ *   <li>Changes to other paths can also change test results, for example collisions between
+ *       display names. Entries expire after CLDR_DASHBOARD_CACHE_MINUTES to bound this.
+ *   <li>The paths for a locale are dropped if the locale's resolved file is reloaded.
+ * </ul>
+ */
+public class DashboardCache implements XMLSource.Listener {
+
+    /** Config: minutes before a path's notifications are recomputed */
+    private static final String CLDR_DASHBOARD_CACHE_MINUTES = "CLDR_DASHBOARD_CACHE_MINUTES";
+
+    private final int maxAgeMinutes;
+
+    /** Notifications for one locale, organization and coverage level */
+    private final class PathCache {
+        /** the resolved file these were computed from */
+        final CLDRFile sourceFile;
+
+        final Cache<String, PathNotifications> paths =
+                CacheBuilder.newBuilder().expireAfterWrite(maxAgeMinutes, TimeUnit.MINUTES).build();
+
+        PathCache(CLDRFile sourceFile) {
+            this.sourceFile = sourceFile;
+        }
+    }
+
+    /** locale → organization and level → paths */
+    private final Map<CLDRLocale, Map<String, PathCache>> locales = new ConcurrentHashMap<>();
+
+    DashboardCache() {
+        this.maxAgeMinutes = CLDRConfig.getInstance().getProperty(CLDR_DASHBOARD_CACHE_MINUTES, 30);
+    }
+
+    /**
+     * Get the notifications by path, for VettingParameters.setPathCache()
+     *
+     * @param locale
+     * @param sourceFile the resolved file the Dashboard is made from
+     * @param organization the user's organization
+     * @param coverageLevel
+     * @return a thread-safe map from path to notifications
+     */
+    public Map<String, PathNotifications> get(
+            CLDRLocale locale,
+            CLDRFile sourceFile,
+            Organization organization,
+            Level coverageLevel) {
+        final Map<String, PathCache> forLocale =
+                locales.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+        final PathCache pc =
+                forLocale.compute(
+                        organization.name() + "/" + coverageLevel.name(),
+                        (k, old) ->
+                                (old != null && old.sourceFile == sourceFile)
+                                        ? old
+                                        : new PathCache(sourceFile));
+        return pc.paths.asMap();
+    }
+
+    /** Invalidate one xpath in this locale and its sublocales, for example after a vote */
+    public void invalidatePath(CLDRLocale locale, String xpath) {
+        for (Map.Entry<CLDRLocale, Map<String, PathCache>> e : locales.entrySet()) {
+            if (isSameOrDescendant(e.getKey(), locale)) {
+                for (PathCache pc : e.getValue().values()) {
+                    pc.paths.invalidate(xpath);
+                }
+            }
+        }
+    }
+
+    /** A winning value changed in one of the STFactory's sources */
+    @Override
+    public void valueChanged(String xpath, XMLSource source) {
+        invalidatePath(CLDRLocale.getInstance(source.getLocaleID()), xpath);
+    }
+
+    private static boolean isSameOrDescendant(CLDRLocale l, CLDRLocale ancestor) {
+        for (; l != null; l = l.getParent()) {
+            if (l.equals(ancestor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -12,10 +12,18 @@
 package org.unicode.cldr.web;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.ibm.icu.text.SimpleDateFormat;
 import com.ibm.icu.util.Calendar;
 import com.ibm.icu.util.Output;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import org.unicode.cldr.icu.LDMLConstants;
@@ -354,7 +362,13 @@ public class DataPage {
              *     <p>Called only by DataPage.DataRow.CandidateItem.toJSONString()
              */
             public String getExample() {
-                return nativeExampleGenerator.getExampleHtml(xpath, rawValue);
+                beginPhase(BuildPhase.EXAMPLE);
+                try {
+                    // rows may be serialized concurrently, each thread with its own generator
+                    return exampleGenerators.getExampleHtml(xpath, rawValue);
+                } finally {
+                    endPhase(BuildPhase.EXAMPLE);
+                }
             }
 
             /**
@@ -1129,7 +1143,7 @@ public class DataPage {
      * <p>Keep a reference since sm.getSTFactory().make() may be expensive. Use lazy initialization
      * since it may not be needed by every DataPage.
      */
-    private CLDRFile getRootFile() {
+    private synchronized CLDRFile getRootFile() {
         if (rootFile == null) {
             rootFile = sm.getSTFactory().make(CLDRLocale.ROOT.getBaseName(), true);
         }
@@ -1247,6 +1261,171 @@ public class DataPage {
     /** Synchronization Mutex used for accessing/setting the coverageInfo object */
     private static final Object GET_COVERAGEINFO_SYNC = new Object();
 
+    /** Bounded pool shared by all DataPages for populating and serializing rows */
+    private static ExecutorService rowExecutor = null;
+
+    /** Number of threads in rowExecutor, see getRowThreads */
+    private static int rowThreads = 0;
+
+    /**
+     * The phases of building and returning a page, for timing. Each is timed by the wall clock,
+     * while at least one thread is in the phase. CHECK and EXAMPLE run on the row threads, inside
+     * RESOLVE and SERIALIZE respectively.
+     */
+    public enum BuildPhase {
+        RESOLVE,
+        CHECK,
+        EXAMPLE,
+        SERIALIZE
+    }
+
+    /** Wall-clock time of a phase, which may be entered by several threads at once */
+    private static final class PhaseClock {
+        private int active = 0;
+        private long since;
+        private long nanos = 0;
+
+        synchronized void begin() {
+            if (active++ == 0) {
+                since = System.nanoTime();
+            }
+        }
+
+        synchronized void end() {
+            if (--active == 0) {
+                nanos += System.nanoTime() - since;
+            }
+        }
+
+        synchronized long getNanos() {
+            return nanos;
+        }
+    }
+
+    /** The time spent in each BuildPhase for this DataPage */
+    private final Map<BuildPhase, PhaseClock> phaseClocks = new EnumMap<>(BuildPhase.class);
+
+    {
+        for (BuildPhase p : BuildPhase.values()) {
+            phaseClocks.put(p, new PhaseClock());
+        }
+    }
+
+    /** Number of CheckCLDR objects of the TestResultBundle, after populating */
+    private int checkerCount = 0;
+
+    /**
+     * Start timing a phase on this thread; must be followed by endPhase. Thread safe.
+     *
+     * @param phase the phase
+     */
+    public void beginPhase(BuildPhase phase) {
+        phaseClocks.get(phase).begin();
+    }
+
+    /**
+     * Stop timing a phase on this thread. Thread safe.
+     *
+     * @param phase the phase
+     */
+    public void endPhase(BuildPhase phase) {
+        phaseClocks.get(phase).end();
+    }
+
+    /**
+     * Get the timings of this page: the wall-clock milliseconds of each BuildPhase, keyed by
+     * lowercase phase name, followed by "checkers" and "exampleGenerators", the number of CheckCLDR
+     * and ExampleGenerator objects for the locale. Each row thread checking or making examples at
+     * the same time has its own, so these show how many have run concurrently.
+     *
+     * @return the map
+     */
+    public Map<String, Long> getPhaseMillis() {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<BuildPhase, PhaseClock> e : phaseClocks.entrySet()) {
+            result.put(e.getKey().name().toLowerCase(), e.getValue().getNanos() / 1000000);
+        }
+        result.put("checkers", (long) checkerCount);
+        result.put("exampleGenerators", (long) exampleGenerators.size());
+        return result;
+    }
+
+    /**
+     * @return the number of threads used for rows, from CLDR_DATAPAGE_THREADS
+     */
+    private static synchronized int getRowThreads() {
+        if (rowThreads == 0) {
+            rowThreads =
+                    Math.max(
+                            1,
+                            CLDRConfig.getInstance()
+                                    .getProperty(
+                                            "CLDR_DATAPAGE_THREADS",
+                                            Runtime.getRuntime().availableProcessors()));
+        }
+        return rowThreads;
+    }
+
+    private static synchronized ExecutorService getRowExecutor() {
+        if (rowExecutor == null) {
+            rowExecutor =
+                    Executors.newFixedThreadPool(
+                            getRowThreads(), SurveyThreadManager.getThreadFactory());
+        }
+        return rowExecutor;
+    }
+
+    /**
+     * Apply a function to each item, using the shared row pool, and return the results in the same
+     * order as the items. The items are split into one batch per thread, so the function should be
+     * reasonably expensive per item. Runs on the calling thread if there are few items or only one
+     * thread.
+     *
+     * @param items the items
+     * @param fn the function, which must be thread safe
+     * @return the results, in order
+     */
+    public static <T, R> List<R> mapConcurrently(List<T> items, Function<T, R> fn) {
+        final int threads = getRowThreads();
+        if (threads == 1 || items.size() < 2) {
+            final List<R> result = new ArrayList<>(items.size());
+            for (T item : items) {
+                result.add(fn.apply(item));
+            }
+            return result;
+        }
+        final int batchSize = (items.size() + threads - 1) / threads;
+        final List<Callable<List<R>>> tasks = new ArrayList<>();
+        for (final List<T> batch : Lists.partition(items, batchSize)) {
+            tasks.add(
+                    () -> {
+                        final List<R> r = new ArrayList<>(batch.size());
+                        for (T item : batch) {
+                            r.add(fn.apply(item));
+                        }
+                        return r;
+                    });
+        }
+        final List<R> result = new ArrayList<>(items.size());
+        try {
+            for (Future<List<R>> f : getRowExecutor().invokeAll(tasks)) {
+                result.addAll(f.get());
+            }
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new InternalCldrException("Exception while processing rows", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalCldrException("Interrupted while processing rows", e);
+        }
+        return result;
+    }
+
     /*
      * Warn user why these messages are showing up.
      */
@@ -1362,8 +1541,9 @@ public class DataPage {
             }
             page.comparisonValueFile = sm.getEnglishFile();
 
-            page.nativeExampleGenerator =
-                    TestCache.getExampleGenerator(locale, ourSrc, page.comparisonValueFile);
+            page.exampleGenerators =
+                    TestCache.getExampleGeneratorPool(locale, ourSrc, page.comparisonValueFile);
+            page.nativeExampleGenerator = page.exampleGenerators.getShared();
 
             page.populateFrom(ourSrc, checkCldr);
             /*
@@ -1379,6 +1559,65 @@ public class DataPage {
         return page;
     }
 
+    /** locale/page keys of the pages whose examples are being prebuilt */
+    private static final Set<String> prebuildingPages = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Prebuild the examples for the page after the given one in its section, in the background.
+     * Vetters usually go through the pages of a section in order, so the next page's examples
+     * will be cached by the time it is requested.
+     *
+     * @param locale the locale
+     * @param pageId the page that was just requested
+     */
+    public static void prebuildNextPageExamples(CLDRLocale locale, PageId pageId) {
+        final PageId next = getNextPage(pageId);
+        if (next == null) {
+            return;
+        }
+        final String key = locale.getBaseName() + "/" + next.name();
+        if (!prebuildingPages.add(key)) {
+            return; // already in progress
+        }
+        SurveyThreadManager.getExecutorService()
+                .submit(
+                        () -> {
+                            try {
+                                final SurveyMain sm = CookieSession.sm;
+                                TestCache.prebuildExamples(
+                                        locale,
+                                        sm.getSTFactory().make(locale.getBaseName()),
+                                        sm.getEnglishFile(),
+                                        PathHeader.Factory.getCachedPaths(
+                                                next.getSectionId(), next));
+                            } catch (Throwable t) {
+                                SurveyLog.logException(
+                                        logger, t, "Exception while prebuilding examples " + key);
+                            } finally {
+                                prebuildingPages.remove(key);
+                            }
+                        });
+    }
+
+    /**
+     * @return the page after this one in the same section, or null
+     */
+    private static PageId getNextPage(PageId pageId) {
+        final Set<PageId> pages =
+                PathHeader.Factory.getSectionIdsToPageIds().get(pageId.getSectionId());
+        if (pages == null) {
+            return null;
+        }
+        boolean found = false;
+        for (PageId p : pages) {
+            if (found) {
+                return p;
+            }
+            found = (p == pageId);
+        }
+        return null;
+    }
+
     /**
      * Get the options for the given WebContext, or, if the context is null, get the options for the
      * given CookieSession and CLDRLocale
@@ -1418,13 +1657,16 @@ public class DataPage {
     /*
      * hashtable of type->Row
      */
-    Hashtable<String, DataRow> rowsHash = new Hashtable<>();
+    Map<String, DataRow> rowsHash = new ConcurrentHashMap<>();
 
     private final SurveyMain sm;
     private String xpathPrefix;
 
     private final CLDRLocale locale;
+    /** For help, which synchronizes on it */
     private ExampleGenerator nativeExampleGenerator;
+    /** For examples, which are made concurrently */
+    private TestCache.ExampleGeneratorPool exampleGenerators;
     private final XPathMatcher matcher;
     private final PageId pageId;
     private CLDRFile diskFile;
@@ -1453,16 +1695,6 @@ public class DataPage {
         }
     }
 
-    /**
-     * Add the given DataRow to this DataPage
-     *
-     * @param row the DataRow
-     *     <p>Called only by getDataRow
-     */
-    void addDataRow(DataRow row) {
-        rowsHash.put(row.xpath, row);
-    }
-
     /**
      * Get the page id
      *
@@ -1646,8 +1878,14 @@ public class DataPage {
         }
         DataRow row = rowsHash.get(xpath);
         if (row == null) {
+            // Not computeIfAbsent: the constructor resolves votes, so it must not hold a lock
+            // that other rows' threads need. Rows of a page are made by one thread each, so it is
+            // rare for two rows to be made here for the same xpath; then the first one is kept.
             row = new DataRow(xpath);
-            addDataRow(row);
+            final DataRow existing = rowsHash.putIfAbsent(xpath, row);
+            if (existing != null) {
+                row = existing;
+            }
         }
         return row;
     }
@@ -1715,12 +1953,24 @@ public class DataPage {
                                 + extraXpaths.size());
             }
         }
-        populateFromAllXpaths(allXpaths, workPrefix, ourSrc, extraXpaths, stf, checkCldr);
+        beginPhase(BuildPhase.RESOLVE);
+        try {
+            populateFromAllXpaths(allXpaths, workPrefix, ourSrc, extraXpaths, stf, checkCldr);
+        } finally {
+            endPhase(BuildPhase.RESOLVE);
+            if (checkCldr != null) {
+                checkerCount = checkCldr.getCheckerCount();
+            }
+        }
     }
 
     /**
      * Populate this DataPage with a row for each of the given xpaths
      *
+     * <p>The xpaths are filtered on this thread, then the rows are populated concurrently on the
+     * shared row pool. Each row only depends on its own xpath, so the result does not depend on
+     * the order in which rows are completed; the display order comes from the SortMode.
+     *
      * @param allXpaths the set of xpaths
      * @param workPrefix
      * @param ourSrc
@@ -1736,6 +1986,21 @@ public class DataPage {
             STFactory stf,
             TestResultBundle checkCldr) {
 
+        /** The arguments for populateFromThisXpath, collected before populating concurrently */
+        final class RowArgs {
+            final String xpath;
+            final String fullPath;
+            final int coverageValue;
+            final int base_xpath;
+
+            RowArgs(String xpath, String fullPath, int coverageValue, int base_xpath) {
+                this.xpath = xpath;
+                this.fullPath = fullPath;
+                this.coverageValue = coverageValue;
+                this.base_xpath = base_xpath;
+            }
+        }
+        final List<RowArgs> rows = new ArrayList<>(allXpaths.size());
         for (String xpath : allXpaths) {
             if (xpath == null) {
                 throw new InternalError("null xpath in allXpaths");
@@ -1769,9 +2034,21 @@ public class DataPage {
                 fullPath = xpath; // (this is normal for 'extra' paths)
             }
             // Now we are ready to add the data
-            populateFromThisXpath(
-                    xpath, extraXpaths, ourSrc, fullPath, checkCldr, coverageValue, base_xpath);
-        }
+            rows.add(new RowArgs(xpath, fullPath, coverageValue, base_xpath));
+        }
+        mapConcurrently(
+                rows,
+                a -> {
+                    populateFromThisXpath(
+                            a.xpath,
+                            extraXpaths,
+                            ourSrc,
+                            a.fullPath,
+                            checkCldr,
+                            a.coverageValue,
+                            a.base_xpath);
+                    return a;
+                });
     }
 
     /**
@@ -1926,9 +2203,14 @@ public class DataPage {
         List<CheckStatus> checkCldrResult = new ArrayList<>();
         List<CheckStatus> examplesResult = new ArrayList<>();
         if (checkCldr != null) {
-            checkCldr.check(xpath, checkCldrResult, isExtraPath ? null : ourValue);
-            STFactory.removeExcludedChecks(checkCldrResult);
-            checkCldr.getExamples(xpath, isExtraPath ? null : ourValue, examplesResult);
+            beginPhase(BuildPhase.CHECK);
+            try {
+                checkCldr.check(xpath, checkCldrResult, isExtraPath ? null : ourValue);
+                STFactory.removeExcludedChecks(checkCldrResult);
+                checkCldr.getExamples(xpath, isExtraPath ? null : ourValue, examplesResult);
+            } finally {
+                endPhase(BuildPhase.CHECK);
+            }
         }
         if (ourValue != null && ourValue.length() > 0) {
             addOurValue(ourValue, row, checkCldrResult, sourceLocaleStatus, xpath);
@@ -1958,8 +2240,13 @@ public class DataPage {
             CandidateItem item2 = row.addItem(avalue, "votes");
             if (avalue != null && checkCldr != null) {
                 List<CheckStatus> item2Result = new ArrayList<>();
-                checkCldr.check(xpath, item2Result, avalue);
-                STFactory.removeExcludedChecks(item2Result);
+                beginPhase(BuildPhase.CHECK);
+                try {
+                    checkCldr.check(xpath, item2Result, avalue);
+                    STFactory.removeExcludedChecks(item2Result);
+                } finally {
+                    endPhase(BuildPhase.CHECK);
+                }
                 if (!item2Result.isEmpty()) {
                     item2.setTests(item2Result);
                 }
@@ -2051,7 +2338,7 @@ public class DataPage {
      * @return the processor
      *     <p>Called by getProcessedValue
      */
-    private DisplayAndInputProcessor getBaselineProcessor() {
+    private synchronized DisplayAndInputProcessor getBaselineProcessor() {
         if (processor == null) {
             processor = new DisplayAndInputProcessor(SurveyMain.TRANS_HINT_LOCALE, false);
         }
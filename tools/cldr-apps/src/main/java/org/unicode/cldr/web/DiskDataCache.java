@@ -4,6 +4,7 @@ import static org.unicode.cldr.web.FixedCandidateProvider.forEnumWithFixedXpath;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import java.util.Collection;
@@ -111,6 +112,7 @@ public class DiskDataCache {
 
     private LoadingCache<CLDRLocale, DiskDataEntry> cache =
             CacheBuilder.newBuilder()
+                    .recordStats()
                     .build(
                             new CacheLoader<CLDRLocale, DiskDataEntry>() {
 
@@ -120,6 +122,13 @@ public class DiskDataCache {
                                 }
                             });
 
+    /**
+     * @return hit, miss, and eviction counts
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
     public DiskDataEntry get(CLDRLocale locale) {
         logger.fine(() -> "Loading " + locale);
         try {
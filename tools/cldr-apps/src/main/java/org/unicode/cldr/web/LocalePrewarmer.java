@@ -0,0 +1,243 @@
+package org.unicode.cldr.web;
+
+import com.ibm.icu.dev.util.ElapsedTimer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import org.unicode.cldr.test.TestCache;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Level;
+import org.unicode.cldr.util.Organization;
+import org.unicode.cldr.util.StandardCodes;
+
+/**
+ * Loads the busiest locales into the STFactory in the background after startup, so that the first
+ * vetters in those locales don't wait for the disk data, votes, resolvers and tests to be loaded.
+ *
+ * <p>Locales are warmed in priority order: first by the number of recent votes, then by the
+ * coverage level the CLDR organization has for them in Locales.txt.
+ */
+public class LocalePrewarmer {
+    static final Logger logger = SurveyLog.forClass(LocalePrewarmer.class);
+
+    /** Config: max # of locales to warm, 0 to disable */
+    private static final String CLDR_PREWARM_LOCALES = "CLDR_PREWARM_LOCALES";
+    /** Config: # of locales warmed at the same time */
+    private static final String CLDR_PREWARM_THREADS = "CLDR_PREWARM_THREADS";
+    /** Config: seconds to wait after startup before warming */
+    private static final String CLDR_PREWARM_DELAY_SECONDS = "CLDR_PREWARM_DELAY_SECONDS";
+
+    /** How far back to look for votes when ranking locales by activity */
+    private static final int RECENT_ACTIVITY_DAYS = 14;
+
+    private static LocalePrewarmer instance = null;
+
+    /** Status of warming one locale */
+    public static final class LocaleStatus {
+        public final String locale;
+        /** 'queued', 'warming', 'done', or 'failed' */
+        public volatile String state = "queued";
+        /** milliseconds taken to warm, or -1 if not done */
+        public volatile long millis = -1;
+
+        LocaleStatus(CLDRLocale locale) {
+            this.locale = locale.getBaseName();
+        }
+    }
+
+    private final SurveyMain sm;
+    private final int threads;
+    private final ConcurrentLinkedQueue<CLDRLocale> queue = new ConcurrentLinkedQueue<>();
+    /** status by locale */
+    private final Map<CLDRLocale, LocaleStatus> status = new ConcurrentHashMap<>();
+
+    /** locales to warm, in priority order; set once by start() */
+    private volatile List<CLDRLocale> order = Collections.emptyList();
+    private final AtomicInteger running = new AtomicInteger();
+    private final ElapsedTimer elapsed = new ElapsedTimer();
+
+    private LocalePrewarmer(SurveyMain sm, int threads) {
+        this.sm = sm;
+        this.threads = threads;
+    }
+
+    /** Schedule prewarming, if enabled; this gets called when Survey Tool starts up */
+    public static void schedulePrewarm(SurveyMain sm) {
+        final CLDRConfig config = CLDRConfig.getInstance();
+        final int count = config.getProperty(CLDR_PREWARM_LOCALES, 20);
+        final int threads = Math.max(1, config.getProperty(CLDR_PREWARM_THREADS, 2));
+        final int delaySeconds = config.getProperty(CLDR_PREWARM_DELAY_SECONDS, 30);
+        if (count <= 0 || config.getEnvironment() == CLDRConfig.Environment.UNITTEST) {
+            logger.info("Locale prewarming (" + CLDR_PREWARM_LOCALES + ") is not enabled");
+            return;
+        }
+        logger.info(
+                "Locale prewarming of up to "
+                        + count
+                        + " locales with "
+                        + threads
+                        + " threads, starting in "
+                        + delaySeconds
+                        + "s");
+        final LocalePrewarmer p = new LocalePrewarmer(sm, threads);
+        instance = p;
+        SurveyThreadManager.getScheduledExecutorService()
+                .schedule(() -> p.start(count), delaySeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return the prewarmer, or null if prewarming is not enabled
+     */
+    public static LocalePrewarmer getInstance() {
+        return instance;
+    }
+
+    /** Rank the locales and start the worker tasks */
+    private void start(int count) {
+        try {
+            final List<CLDRLocale> locales = new ArrayList<>(getPriorityOrder(count));
+            for (CLDRLocale l : locales) {
+                status.put(l, new LocaleStatus(l));
+            }
+            order = Collections.unmodifiableList(locales);
+            queue.addAll(locales);
+            logger.info("Prewarming locales: " + order);
+            for (int i = 0; i < threads; i++) {
+                running.incrementAndGet();
+                SurveyThreadManager.getExecutorService().submit(this::work);
+            }
+        } catch (Throwable t) {
+            SurveyLog.logException(logger, t, "Exception while starting locale prewarming");
+        }
+    }
+
+    /** Worker: warm locales off the queue until it is empty */
+    private void work() {
+        try {
+            CLDRLocale l;
+            while ((l = queue.poll()) != null && !SurveyMain.isBusted()) {
+                warm(l);
+            }
+        } finally {
+            if (running.decrementAndGet() == 0) {
+                logger.info("Locale prewarming finished after " + elapsed);
+            }
+        }
+    }
+
+    private void warm(CLDRLocale l) {
+        final LocaleStatus s = status.get(l);
+        s.state = "warming";
+        final long start = System.currentTimeMillis();
+        try {
+            final STFactory stf = sm.getSTFactory();
+            // This is what DataPage.make will need: the resolved file, tests, and examples
+            stf.make(l.getBaseName());
+            stf.getTestResult(l, DataPage.getSimpleOptions(l));
+            TestCache.getExampleGenerator(l, stf.make(l.getBaseName()), sm.getEnglishFile());
+            s.state = "done";
+        } catch (Throwable t) {
+            s.state = "failed";
+            SurveyLog.logException(logger, t, "Exception while prewarming " + l);
+        }
+        s.millis = System.currentTimeMillis() - start;
+        logger.info("Prewarmed " + l + " in " + s.millis + "ms: " + s.state);
+    }
+
+    /**
+     * Get the locales to warm, busiest first
+     *
+     * @param count max number of locales
+     * @return the locales
+     */
+    private Set<CLDRLocale> getPriorityOrder(int count) {
+        final Set<CLDRLocale> available = sm.getSTFactory().getAvailableCLDRLocales();
+        final Set<CLDRLocale> result = new LinkedHashSet<>();
+        for (CLDRLocale l : getRecentlyActiveLocales()) {
+            addIfWarmable(result, available, l, count);
+        }
+        final StandardCodes sc = StandardCodes.make();
+        for (Level level : new Level[] {Level.MODERN, Level.MODERATE, Level.BASIC}) {
+            for (String loc :
+                    new TreeSet<>(sc.getLocaleCoverageLocales(Organization.cldr.name()))) {
+                if (sc.getLocaleCoverageLevel(Organization.cldr, loc) == level) {
+                    addIfWarmable(result, available, CLDRLocale.getInstance(loc), count);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void addIfWarmable(
+            Set<CLDRLocale> result, Set<CLDRLocale> available, CLDRLocale l, int count) {
+        if (result.size() < count && available.contains(l) && !STFactory.isReadOnlyLocale(l)) {
+            result.add(l);
+        }
+    }
+
+    /**
+     * @return locales with votes in the last RECENT_ACTIVITY_DAYS, most votes first
+     */
+    private List<CLDRLocale> getRecentlyActiveLocales() {
+        final List<CLDRLocale> result = new ArrayList<>();
+        final Timestamp since =
+                new Timestamp(
+                        System.currentTimeMillis()
+                                - TimeUnit.DAYS.toMillis(RECENT_ACTIVITY_DAYS));
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            conn = DBUtils.getInstance().getAConnection();
+            ps =
+                    DBUtils.prepareStatementWithArgsFRO(
+                            conn,
+                            "SELECT locale, COUNT(*) AS n FROM "
+                                    + DBUtils.Table.VOTE_VALUE
+                                    + " WHERE last_mod > ? GROUP BY locale ORDER BY n DESC",
+                            since);
+            rs = ps.executeQuery();
+            while (rs.next()) {
+                result.add(CLDRLocale.getInstance(rs.getString(1)));
+            }
+        } catch (SQLException e) {
+            SurveyLog.logException(logger, e, "Could not read recent activity for prewarming");
+        } finally {
+            DBUtils.close(rs, ps, conn);
+        }
+        return result;
+    }
+
+    /**
+     * @return status of each locale, in priority order
+     */
+    public List<LocaleStatus> getStatus() {
+        final List<LocaleStatus> result = new ArrayList<>();
+        for (CLDRLocale l : order) {
+            result.add(status.get(l));
+        }
+        return result;
+    }
+
+    /**
+     * @return true if all workers have finished
+     */
+    public boolean isDone() {
+        return !order.isEmpty() && running.get() == 0;
+    }
+}
@@ -12,18 +12,22 @@ import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableMap;
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,6 +39,11 @@ public class OutputFileManager {
     private static final Logger logger = SurveyLog.forClass(OutputFileManager.class);
 
     private static final String XML_SUFFIX = ".xml";
+    /** Files are written with this suffix, then renamed, so no partial .xml file is left */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /** Config: # of locales written at the same time by outputAllFiles */
+    private static final String CLDR_VXML_THREADS = "CLDR_VXML_THREADS";
     private final SurveyMain sm;
 
     public OutputFileManager(SurveyMain surveyMain) {
@@ -210,29 +219,62 @@ public class OutputFileManager {
             // Reference: https://unicode-org.atlassian.net/browse/CLDR-14913
             out.write("<p>");
             Set<CLDRLocale> sortSet = vxmlGenerator.getSortSet();
-            int i = 0;
-            for (CLDRLocale loc : sortSet) {
-                if (i++ > 0) {
-                    out.write(", ");
+            // Locales are written on a pool of their own, and listed (and reported to the
+            // progress callback) on this thread as they complete
+            final ExecutorService pool =
+                    Executors.newFixedThreadPool(
+                            getOutputThreads(), SurveyThreadManager.getThreadFactory());
+            try {
+                final CompletionService<CLDRLocale> done = new ExecutorCompletionService<>(pool);
+                for (CLDRLocale loc : sortSet) {
+                    done.submit(() -> writeLocale(vetDataDir, loc));
                 }
-                out.write(loc.getBaseName());
-                for (OutputFileManager.Kind kind : OutputFileManager.Kind.values()) {
-                    if (kind == OutputFileManager.Kind.vxml
-                            || kind == OutputFileManager.Kind.pxml) {
-                        logger.log(Level.WARNING, "Writing " + loc.getDisplayName() + ":" + kind);
-                        writeManualOutputFile(vetDataDir, loc, kind);
+                for (int i = 0; i < sortSet.size(); ++i) {
+                    final CLDRLocale loc = done.take().get();
+                    if (i > 0) {
+                        out.write(", ");
                     }
+                    out.write(loc.getBaseName());
+                    vxmlGenerator.update(loc);
                 }
-                vxmlGenerator.update(loc);
+            } finally {
+                pool.shutdownNow(); // if stopped or failed, don't start any more locales
             }
             out.write("</p>");
             return true;
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, "outputAllFiles: " + e.getCause().getMessage(), e.getCause());
+            return false;
         } catch (Exception e) {
             logger.log(Level.SEVERE, "outputAllFiles: " + e.getMessage(), e);
             return false;
         }
     }
 
+    private static int getOutputThreads() {
+        return Math.max(
+                1,
+                CLDRConfig.getInstance()
+                        .getProperty(
+                                CLDR_VXML_THREADS,
+                                Math.min(4, Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Write the vxml and pxml files for one locale
+     *
+     * @return the locale
+     */
+    private CLDRLocale writeLocale(File vetDataDir, CLDRLocale loc) {
+        for (OutputFileManager.Kind kind : OutputFileManager.Kind.values()) {
+            if (kind == OutputFileManager.Kind.vxml || kind == OutputFileManager.Kind.pxml) {
+                logger.log(Level.WARNING, "Writing " + loc.getDisplayName() + ":" + kind);
+                writeManualOutputFile(vetDataDir, loc, kind);
+            }
+        }
+        return loc;
+    }
+
     public static Set<CLDRLocale> createVxmlLocaleSet() {
         Set<CLDRLocale> set = new TreeSet<>(SurveyMain.getLocalesSet());
         // skip "en" and "root", since they should never be changed by the Survey Tool
@@ -274,7 +316,8 @@ public class OutputFileManager {
              */
             String outDirName = getOutDirName(vetDataDir, loc, kind);
             File outDir = new File(outDirName);
-            if (!outDir.exists() && !outDir.mkdirs()) {
+            // another locale's thread may be creating the same directory
+            if (!outDir.mkdirs() && !outDir.isDirectory()) {
                 throw new InternalError("Unable to create directory: " + outDirName);
             }
             String outFileName = outDirName + "/" + loc + XML_SUFFIX;
@@ -660,40 +703,56 @@ public class OutputFileManager {
      *
      * @param file the CLDRFile for reading
      * @param outFile the File for "main"; another file will be created in "annotations"
-     * @throws UnsupportedEncodingException
-     * @throws FileNotFoundException
+     * @throws IOException
      */
-    private void doWriteFile(CLDRFile file, Kind kind, File outFile)
-            throws UnsupportedEncodingException, FileNotFoundException {
+    private void doWriteFile(CLDRFile file, Kind kind, File outFile) throws IOException {
+        File tempFile = getTempFile(outFile);
         try (PrintWriter u8out =
                 new PrintWriter(
                         new OutputStreamWriter(
-                                new FileOutputStream(outFile), StandardCharsets.UTF_8))) {
+                                new FileOutputStream(tempFile), StandardCharsets.UTF_8))) {
             if (kind == Kind.vxml || kind == Kind.rxml) {
                 file.write(u8out, OPTS_SKIP_ANNOTATIONS);
 
                 // output annotations, too
                 File aFile = makeAnnotationFile(outFile); // same name, different subdir
+                File aTempFile = getTempFile(aFile);
+                boolean wroteAnnotations;
                 try (PrintWriter u8outa =
                         new PrintWriter(
                                 new OutputStreamWriter(
-                                        new FileOutputStream(aFile), StandardCharsets.UTF_8))) {
-                    if (!file.write(u8outa, OPTS_KEEP_ANNOTATIONS)) {
-                        if (aFile.exists() && !aFile.delete()) {
-                            throw new InternalError("Unable to delete aFile: " + aFile);
-                        }
-                    }
+                                        new FileOutputStream(aTempFile),
+                                        StandardCharsets.UTF_8))) {
+                    wroteAnnotations = file.write(u8outa, OPTS_KEEP_ANNOTATIONS);
+                }
+                if (wroteAnnotations) {
+                    moveIntoPlace(aTempFile, aFile);
+                } else if (!aTempFile.delete()) {
+                    throw new InternalError("Unable to delete aFile: " + aTempFile);
                 }
             } else {
                 file.write(u8out);
             }
         }
+        moveIntoPlace(tempFile, outFile);
+    }
+
+    private static File getTempFile(File file) {
+        return new File(file.getParentFile(), file.getName() + TEMP_SUFFIX);
+    }
+
+    private static void moveIntoPlace(File tempFile, File file) throws IOException {
+        Files.move(
+                tempFile.toPath(),
+                file.toPath(),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
     }
 
     private static File makeAnnotationFile(File outFile) {
         File parentDir = outFile.getParentFile().getParentFile();
         File annotationsDir = new File(parentDir, DirNames.justAnnotations);
-        if (!annotationsDir.exists() && !annotationsDir.mkdirs()) {
+        if (!annotationsDir.mkdirs() && !annotationsDir.isDirectory()) {
             throw new InternalError("Unable to create directory: " + annotationsDir);
         }
         return new File(annotationsDir, outFile.getName());
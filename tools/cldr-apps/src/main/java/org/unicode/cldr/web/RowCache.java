@@ -0,0 +1,253 @@
+package org.unicode.cldr.web;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.XMLSource;
+import org.unicode.cldr.web.api.VoteAPI.RowResponse;
+
+/**
+ * Cache of the rows computed for VoteAPI row responses, by locale, xpath, and user; and of whole
+ * page responses, by locale, page, and user, so that an unchanged page is returned without
+ * building its DataPage.
+ *
+ * <p>Rows and pages are checked against a tag made from the locale's stamp (see {@link
+ * STFactory#mintLocaleStamp(CLDRLocale)}). Every invalidation advances the stamp, so the tag can
+ * also be used as an HTTP ETag for a page: if the tag hasn't changed, neither has the page. A
+ * cached page is only used if it was cached with the current tag, so any invalidation in its locale
+ * drops it.
+ *
+ * <ul>
+ *   <li>A vote invalidates the rows for its xpath, in all users' views.
+ *   <li>A change in a winning value (reported to this {@link XMLSource.Listener}) can change
+ *       inheritance, examples, and tests for other paths, so it invalidates the whole locale and
+ *       its sublocales.
+ *   <li>Forum posts and flags invalidate their locale.
+ *   <li>User changes (see {@link #usersModified()}) invalidate everything, since rows show
+ *       voters' names and levels.
+ * </ul>
+ *
+ * <p>The caches are bounded by the total number of rows they hold, over all locales and users:
+ * CLDR_ROW_CACHE_ROWS, counting each row of a cached page.
+ */
+public class RowCache implements XMLSource.Listener {
+
+    /** Config: max # of rows cached, for all locales and users */
+    private static final String CLDR_ROW_CACHE_ROWS = "CLDR_ROW_CACHE_ROWS";
+
+    private final STFactory factory;
+
+    /** A row or page, as seen by one user, in one generation (see usersModified) */
+    private static final class Key {
+        final CLDRLocale locale;
+        /** the xpath of a row, or the page id of a page */
+        final String id;
+
+        final String userKey;
+        final long generation;
+
+        Key(CLDRLocale locale, String id, String userKey) {
+            this.locale = locale;
+            this.id = id;
+            this.userKey = userKey;
+            this.generation = RowCache.generation.get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return generation == other.generation
+                    && locale.equals(other.locale)
+                    && id.equals(other.id)
+                    && userKey.equals(other.userKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locale, id, userKey, generation);
+        }
+    }
+
+    /** A page response, with the tag it was built under */
+    private static final class CachedPage {
+        final String tag;
+        final RowResponse response;
+
+        CachedPage(String tag, RowResponse response) {
+            this.tag = tag;
+            this.response = response;
+        }
+
+        int getRowCount() {
+            return (response.page == null || response.page.rows == null)
+                    ? 1
+                    : 1 + response.page.rows.size();
+        }
+    }
+
+    private final Cache<Key, RowResponse.Row> rows;
+
+    private final Cache<Key, CachedPage> pages;
+
+    /** Locales whose tags have been handed out, so that changes to parent locales will find them */
+    private final Set<CLDRLocale> locales = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Advanced by usersModified(). Static, since UserRegistry may change before the STFactory is
+     * created. Rows from older generations are not found, and are evicted as the caches fill.
+     */
+    private static final AtomicLong generation = new AtomicLong();
+
+    RowCache(STFactory factory) {
+        this.factory = factory;
+        final long maxRows = CLDRConfig.getInstance().getProperty(CLDR_ROW_CACHE_ROWS, 100000);
+        // half for rows, half for the rows of pages, which are mostly the same objects
+        rows = CacheBuilder.newBuilder().maximumSize(maxRows / 2).build();
+        pages =
+                CacheBuilder.newBuilder()
+                        .maximumWeight(maxRows / 2)
+                        .weigher((Key k, CachedPage p) -> p.getRowCount())
+                        .build();
+    }
+
+    /**
+     * Get the current tag for this locale. Read it before building rows, and pass it to put().
+     *
+     * @param locale
+     * @return a tag which changes whenever a row in this locale may have changed
+     */
+    public String getTag(CLDRLocale locale) {
+        locales.add(locale);
+        return generation.get() + "." + factory.mintLocaleStamp(locale).current();
+    }
+
+    /**
+     * Get a cached row
+     *
+     * @param locale
+     * @param xpath
+     * @param userKey identifies the user and view, see {@link #userKey(UserRegistry.User,
+     *     boolean)}
+     * @return the row, or null if not cached
+     */
+    public RowResponse.Row get(CLDRLocale locale, String xpath, String userKey) {
+        return rows.getIfPresent(new Key(locale, xpath, userKey));
+    }
+
+    /**
+     * Cache a row, unless the locale has changed since the tag was read
+     *
+     * @param locale
+     * @param xpath
+     * @param userKey
+     * @param tag the tag from getTag(), read before the row was built
+     * @param row
+     */
+    public void put(
+            CLDRLocale locale, String xpath, String userKey, String tag, RowResponse.Row row) {
+        if (!tag.equals(getTag(locale))) {
+            return; // already stale
+        }
+        final Key key = new Key(locale, xpath, userKey);
+        rows.put(key, row);
+        // An invalidation advances the stamp before removing rows, so if the tag
+        // still matches, any invalidation that raced with us will remove this row.
+        if (!tag.equals(getTag(locale))) {
+            rows.invalidate(key);
+        }
+    }
+
+    /**
+     * Get a cached page response, if it was built under this tag
+     *
+     * @param locale
+     * @param pageId
+     * @param userKey
+     * @param tag the current tag from getTag()
+     * @return the response, which must not be modified, or null
+     */
+    public RowResponse getPage(CLDRLocale locale, String pageId, String userKey, String tag) {
+        final CachedPage p = pages.getIfPresent(new Key(locale, pageId, userKey));
+        return (p == null || !p.tag.equals(tag)) ? null : p.response;
+    }
+
+    /**
+     * Cache a page response, unless the locale has changed since the tag was read. The response
+     * must not be modified afterwards.
+     *
+     * @param locale
+     * @param pageId
+     * @param userKey
+     * @param tag the tag from getTag(), read before the page was built
+     * @param response
+     */
+    public void putPage(
+            CLDRLocale locale, String pageId, String userKey, String tag, RowResponse response) {
+        if (tag.equals(getTag(locale))) {
+            pages.put(new Key(locale, pageId, userKey), new CachedPage(tag, response));
+        }
+    }
+
+    /**
+     * @return the number of rows cached, not counting those in pages
+     */
+    public long size() {
+        return rows.size();
+    }
+
+    /**
+     * @return the key for rows as seen by this user
+     */
+    public static String userKey(UserRegistry.User user, boolean redacted) {
+        return ((user == null) ? UserRegistry.NO_USER : user.id) + (redacted ? "r" : "");
+    }
+
+    /** Invalidate one xpath in this locale, for example after a vote */
+    public void invalidatePath(CLDRLocale locale, String xpath) {
+        factory.mintLocaleStamp(locale).next(); // also makes the locale's pages stale
+        rows.asMap().keySet().removeIf(k -> k.locale.equals(locale) && k.id.equals(xpath));
+    }
+
+    /** Invalidate this locale and all of its sublocales */
+    public void invalidateLocale(CLDRLocale locale) {
+        factory.mintLocaleStamp(locale).next();
+        for (CLDRLocale l : locales) {
+            if (isSameOrDescendant(l, locale)) {
+                factory.mintLocaleStamp(l).next();
+            }
+        }
+        rows.asMap().keySet().removeIf(k -> isSameOrDescendant(k.locale, locale));
+        pages.asMap().keySet().removeIf(k -> isSameOrDescendant(k.locale, locale));
+    }
+
+    /**
+     * Invalidate all rows in all locales, because a user changed. Rows are dropped lazily, as the
+     * caches fill.
+     */
+    public static void usersModified() {
+        generation.incrementAndGet();
+    }
+
+    /** A winning value changed in one of the STFactory's sources */
+    @Override
+    public void valueChanged(String xpath, XMLSource source) {
+        invalidateLocale(CLDRLocale.getInstance(source.getLocaleID()));
+    }
+
+    private static boolean isSameOrDescendant(CLDRLocale l, CLDRLocale ancestor) {
+        for (; l != null; l = l.getParent()) {
+            if (l.equals(ancestor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
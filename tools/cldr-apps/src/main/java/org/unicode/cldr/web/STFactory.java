@@ -31,6 +31,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import org.unicode.cldr.test.CheckCLDR;
@@ -77,6 +78,27 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         SINGLE_VOTE,
     }
 
+    /** Which users may vote on a path, according to pathHeader and coverage */
+    private enum PathVisibility {
+        /** Nobody, such as for deprecated paths */
+        NONE,
+        /** Only TC members, such as for hidden or read-only paths */
+        TC_ONLY,
+        /** Any user */
+        ALL;
+
+        boolean allows(User user) {
+            switch (this) {
+                case ALL:
+                    return true;
+                case TC_ONLY:
+                    return UserRegistry.userIsTC(user);
+                default:
+                    return false;
+            }
+        }
+    }
+
     /** Names of some columns in DBUtils.Table.VOTE_VALUE */
     private static final String VOTE_OVERRIDE = "vote_override";
 
@@ -354,6 +376,8 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                                 new BallotBoxXMLSource<User>(
                                         diskDataEntry.diskData.cloneAsThawed(), this);
                 registerXmlSource(dataBackedSource);
+                dataBackedSource.addListener(rowCache);
+                dataBackedSource.addListener(dashboardCache);
                 loadVoteValues();
                 nextStamp();
                 XMLSource resolvedXmlsource = makeResolvingSource();
@@ -407,19 +431,30 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
          *     have been able to vote on.
          */
         private boolean isValidSurveyToolVote(UserRegistry.User user, String xpath) {
+            return getPathVisibility(xpath).allows(user);
+        }
+
+        /**
+         * @param xpath - The xpath being voted on.
+         * @return which users, if any, should have been able to vote on this xpath, according to
+         *     pathHeader and coverage. Unlike {@link #isValidSurveyToolVote}, this does not depend
+         *     on the user, so it can be computed once per xpath.
+         */
+        private PathVisibility getPathVisibility(String xpath) {
             PathHeader ph = getPathHeader(xpath);
-            if (ph == null) return false;
-            if (ph.getSurveyToolStatus() == PathHeader.SurveyToolStatus.DEPRECATED) return false;
-            if (ph.getSurveyToolStatus() == PathHeader.SurveyToolStatus.HIDE
-                    || ph.getSurveyToolStatus() == PathHeader.SurveyToolStatus.READ_ONLY) {
-                if (!UserRegistry.userIsTC(user)) return false;
+            if (ph == null) return PathVisibility.NONE;
+            if (ph.getSurveyToolStatus() == PathHeader.SurveyToolStatus.DEPRECATED) {
+                return PathVisibility.NONE;
             }
-
             if (sm.getSupplementalDataInfo().getCoverageValue(xpath, locale.getBaseName())
                     > org.unicode.cldr.util.Level.COMPREHENSIVE.getLevel()) {
-                return false;
+                return PathVisibility.NONE;
             }
-            return true;
+            if (ph.getSurveyToolStatus() == PathHeader.SurveyToolStatus.HIDE
+                    || ph.getSurveyToolStatus() == PathHeader.SurveyToolStatus.READ_ONLY) {
+                return PathVisibility.TC_ONLY;
+            }
+            return PathVisibility.ALL;
         }
 
         /**
@@ -427,7 +462,6 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
          * dataBackedSource
          */
         private void loadVoteValues() {
-            VoteResolver<String> resolver = null; // save recalculating this.
             ElapsedTimer et =
                     (SurveyLog.DEBUG) ? new ElapsedTimer("Loading PLD for " + locale) : null;
             Connection conn = null;
@@ -436,6 +470,14 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             int n = 0;
             int del = 0;
 
+            /*
+             * A locale has many votes per user and often several per path, so look up each
+             * submitter and check each path's visibility only once.
+             * A null value in countedSubmitters means the user's votes are not counted here.
+             */
+            final Map<Integer, User> countedSubmitters = new HashMap<>();
+            final Map<String, PathVisibility> pathVisibility = new HashMap<>();
+
             try {
                 /*
                  * Select several columns (xp, submitter, value, override, last_mod, vote_type),
@@ -461,16 +503,27 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                     }
                     Timestamp last_mod = rs.getTimestamp(6); // last mod
                     VoteType voteType = VoteType.fromId(rs.getInt(7)); // vote_type
-                    User theSubmitter = sm.reg.getInfo(submitter);
-                    if (theSubmitter == null) {
-                        SurveyLog.warnOnce(logger, "Ignoring votes for deleted user #" + submitter);
+                    User theSubmitter;
+                    if (countedSubmitters.containsKey(submitter)) {
+                        theSubmitter = countedSubmitters.get(submitter);
+                    } else {
+                        theSubmitter = sm.reg.getInfo(submitter);
+                        if (theSubmitter == null) {
+                            SurveyLog.warnOnce(
+                                    logger, "Ignoring votes for deleted user #" + submitter);
+                        }
+                        if (!UserRegistry.countUserVoteForLocale(
+                                theSubmitter, locale)) { // check user permission to submit
+                            theSubmitter = null;
+                        }
+                        countedSubmitters.put(submitter, theSubmitter);
                     }
-                    if (!UserRegistry.countUserVoteForLocale(
-                            theSubmitter, locale)) { // check user permission to submit
+                    if (theSubmitter == null) {
                         continue;
                     }
-                    if (!isValidSurveyToolVote(
-                            theSubmitter, xpath)) { // Make sure it is a visible path
+                    if (!pathVisibility
+                            .computeIfAbsent(xpath, this::getPathVisibility)
+                            .allows(theSubmitter)) { // Make sure it is a visible path
                         continue;
                     }
                     try {
@@ -503,6 +556,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 ps = openPermVoteQuery(conn);
                 ps.setString(1, locale.getBaseName());
                 rs = ps.executeQuery();
+                final User admin = sm.reg.getInfo(UserRegistry.ADMIN_ID);
                 while (rs.next()) {
                     int xp = rs.getInt(1);
                     String xpath = sm.xpt.getById(xp);
@@ -510,7 +564,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                     Timestamp last_mod = rs.getTimestamp(3);
                     try {
                         internalSetVoteForValue(
-                                sm.reg.getInfo(UserRegistry.ADMIN_ID),
+                                admin,
                                 xpath,
                                 value,
                                 VoteResolver.Level.LOCKING_VOTES,
@@ -541,24 +595,59 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                             : null;
             /*
              * Now that we've loaded all the votes, resolve the votes for each path.
+             * Resolution only reads the votes and the disk data, so it is done in parallel;
+             * the results are then stored into dataBackedSource on this thread.
              */
-            Set<String> xpathSet = allPXDPaths();
-            int j = 0;
-            for (String xp : xpathSet) {
-                try {
-                    resolver =
-                            dataBackedSource.setValueFromResolver(
-                                    xp,
-                                    resolver,
-                                    VoteLoadingContext.ORDINARY_LOAD_VOTES,
-                                    peekXpathData(xp));
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    SurveyLog.logException(logger, e, "In setValueFromResolver, xp = " + xp);
-                }
-                j++;
+            final List<BallotBoxXMLSource.ResolvedValue> resolved = resolveAllPaths();
+            for (BallotBoxXMLSource.ResolvedValue r : resolved) {
+                dataBackedSource.applyResolvedValue(r);
+            }
+            SurveyLog.debug(et + " - resolved " + resolved.size() + " items, " + n + " total.");
+        }
+
+        /**
+         * Resolve the votes for every path that has PerXPathData, using the voteLoadingPool.
+         *
+         * @return the resolved values, in no particular order. Paths that failed to resolve are
+         *     logged and omitted.
+         */
+        private List<BallotBoxXMLSource.ResolvedValue> resolveAllPaths() {
+            final Set<String> xpathSet = allPXDPaths();
+            if (voteLoadingPool.isShutdown()) {
+                // shut down (see STFactory.shutdown); resolve on this thread
+                return xpathSet.stream()
+                        .map(this::resolveForLoad)
+                        .filter(r -> r != null)
+                        .collect(Collectors.toList());
+            }
+            try {
+                return voteLoadingPool
+                        .submit(
+                                () ->
+                                        xpathSet.parallelStream()
+                                                .map(this::resolveForLoad)
+                                                .filter(r -> r != null)
+                                                .collect(Collectors.toList()))
+                        .get();
+            } catch (InterruptedException | ExecutionException e) {
+                SurveyLog.logException(logger, e, "In resolveAllPaths for " + locale);
+                SurveyMain.busted("Could not resolve votes for locale " + locale, e);
+                throw new InternalError("Could not resolve votes for locale " + locale, e);
+            }
+        }
+
+        /**
+         * @return the ResolvedValue for this path, or null on failure
+         */
+        private BallotBoxXMLSource.ResolvedValue resolveForLoad(String xp) {
+            try {
+                return dataBackedSource.resolveValue(
+                        xp, null, VoteLoadingContext.ORDINARY_LOAD_VOTES, peekXpathData(xp));
+            } catch (Exception e) {
+                e.printStackTrace();
+                SurveyLog.logException(logger, e, "In setValueFromResolver, xp = " + xp);
+                return null;
             }
-            SurveyLog.debug(et + " - resolved " + j + " items, " + n + " total.");
         }
 
         @Override
@@ -870,6 +959,9 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             if (newVal != null && (!newVal.equals(oldVal) || !oldFullPath.equals(newFullPath))) {
                 dataBackedSource.notifyListeners(distinguishingXpath);
             }
+            // any vote changes the row, even if the winning value didn't change
+            rowCache.invalidatePath(locale, distinguishingXpath);
+            dashboardCache.invalidatePath(locale, distinguishingXpath);
         }
 
         /**
@@ -1226,6 +1318,9 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             diskDataCache =
                     new DiskDataCache(
                             sm.getDiskFactory(), sm.getEnglishFile(), sm.getSupplementalDataInfo());
+            SurveyInstrumentation.registerCache("STFactory", locales::stats);
+            SurveyInstrumentation.registerCache("DiskDataCache", diskDataCache::getCacheStats);
+            SurveyInstrumentation.registerCache("TestCache", () -> getTestCache().getCacheStats());
         }
     }
 
@@ -1258,10 +1353,42 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
     private final int CLDR_LOCALE_CACHE_MAX =
             CLDRConfig.getInstance().getProperty("CLDR_LOCALE_CACHE_MAX", 100);
 
+    /** Config: # of threads used to resolve votes while loading a locale */
+    private final int CLDR_VOTE_LOAD_THREADS =
+            CLDRConfig.getInstance()
+                    .getProperty(
+                            "CLDR_VOTE_LOAD_THREADS", Runtime.getRuntime().availableProcessors());
+
+    /** Bounded pool for resolving votes in parallel, see PerLocaleData.resolveAllPaths */
+    private final ForkJoinPool voteLoadingPool = new ForkJoinPool(CLDR_VOTE_LOAD_THREADS);
+
+    /**
+     * Release the threads of this factory. Locales loaded afterwards are resolved on the calling
+     * thread. Called by SurveyMain when the factory is destroyed or replaced.
+     */
+    void shutdown() {
+        voteLoadingPool.shutdown();
+    }
+
+    /** Cached VoteAPI rows, see RowCache. Listens to the dataBackedSource of each locale. */
+    private final RowCache rowCache = new RowCache(this);
+
+    public RowCache getRowCache() {
+        return rowCache;
+    }
+
+    /** Cached Dashboard notifications, see DashboardCache. Also listens to each locale. */
+    private final DashboardCache dashboardCache = new DashboardCache();
+
+    public DashboardCache getDashboardCache() {
+        return dashboardCache;
+    }
+
     /** Per locale map */
     private final LoadingCache<CLDRLocale, PerLocaleData> locales =
             CacheBuilder.newBuilder()
                     .softValues()
+                    .recordStats()
                     .expireAfterAccess(Duration.ofHours(CLDR_LOCALE_CACHE_HOURS))
                     .maximumSize(CLDR_LOCALE_CACHE_MAX)
                     .removalListener(
@@ -1294,12 +1421,8 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
      * @return
      */
     public MutableStamp mintLocaleStamp(CLDRLocale locale) {
-        MutableStamp s = localeStamps.get(locale);
-        if (s == null) {
-            s = MutableStamp.getInstance();
-            localeStamps.put(locale, s);
-        }
-        return s;
+        // atomically, since it is called from several threads: there must be only one per locale
+        return localeStamps.computeIfAbsent(locale, l -> MutableStamp.getInstance());
     }
 
     /**
@@ -1683,6 +1806,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 }
                 m.add(theKey);
             } // make sure that the DB is loaded before we attempt to update.
+            rowCache.invalidatePath(locale, sm.xpt.getById(xpath));
             if (DBUtils.db_Mysql) {
                 ps =
                         DBUtils.prepareStatementWithArgs(
@@ -504,8 +504,17 @@ public class SurveyAjax extends HttpServlet {
                         SurveyJSONWrapper r = newJSONStatus(request, sm);
                         r.put("what", what);
                         CLDRLocale locale = CLDRLocale.getInstance(loc);
-                        int id = Integer.parseInt(xpath);
-                        r.put(what, sm.fora.postCountFor(locale, id));
+                        if (xpath.indexOf(',') >= 0) {
+                            // several comma-separated ids, such as those of a page
+                            final List<Integer> ids = new ArrayList<>();
+                            for (String id : xpath.split(",")) {
+                                ids.add(Integer.parseInt(id.trim()));
+                            }
+                            r.put(what, new JSONObject(sm.fora.postCountsFor(locale, ids)));
+                        } else {
+                            int id = Integer.parseInt(xpath);
+                            r.put(what, sm.fora.postCountFor(locale, id));
+                        }
                         send(r, out);
                     } else if (what.equals(WHAT_FORUM_FETCH)) {
                         SurveyJSONWrapper r = newJSONStatus(request, sm);
@@ -640,27 +640,34 @@ public class SurveyForum {
      *     (WHAT_FORUM_COUNT)
      */
     public int postCountFor(CLDRLocale locale, int xpathId) {
-        Connection conn = null;
-        PreparedStatement ps = null;
-        String tableName = DBUtils.Table.FORUM_POSTS.toString();
-        try {
-            conn = DBUtils.getInstance().getAConnection();
-            if (conn == null) {
-                return 0;
-            }
-            ps =
-                    DBUtils.prepareForwardReadOnly(
-                            conn, "select count(*) from " + tableName + " where loc=? and xpath=?");
-            ps.setString(1, locale.getBaseName());
-            ps.setInt(2, xpathId);
-            return DBUtils.sqlCount(ps);
-        } catch (SQLException e) {
-            SurveyLog.logException(
-                    logger, e, "postCountFor for " + tableName + " " + locale + ":" + xpathId);
-            return 0;
-        } finally {
-            DBUtils.close(ps, conn);
+        return getLocaleForumStatus(locale).getPostCount(xpathId);
+    }
+
+    /**
+     * How many forum posts are there for each of the given xpaths, such as those of a page?
+     *
+     * @param locale
+     * @param xpathIds
+     * @return map from xpath id to the number of posts, only for xpaths which have posts
+     */
+    public Map<Integer, Integer> postCountsFor(CLDRLocale locale, Collection<Integer> xpathIds) {
+        return getLocaleForumStatus(locale).getPostCounts(xpathIds);
+    }
+
+    /**
+     * Get the forum status of all paths in the locale, loaded with one query, and kept until the
+     * next post or vote in the locale
+     *
+     * @param locale
+     * @return the status
+     */
+    public static LocaleForumStatus getLocaleForumStatus(CLDRLocale locale) {
+        final LocaleForumStatus lfs =
+                localeForumStatusMap.computeIfAbsent(locale, LocaleForumStatus::new);
+        if (!lfs.loaded) {
+            localeForumStatusMap.remove(locale, lfs); // try again next time
         }
+        return lfs;
     }
 
     /**
@@ -969,6 +976,7 @@ public class SurveyForum {
             autoPostClose(locale, user, xpathId, value);
         }
         localeForumStatusMap.remove(locale);
+        sm.getSTFactory().getRowCache().invalidatePath(locale, distinguishingXpath);
     }
 
     /**
@@ -1215,6 +1223,7 @@ public class SurveyForum {
         CLDRLocale locale = postInfo.getLocale();
         sm.getSTFactory().get(locale).nextStamp();
         localeForumStatusMap.remove(locale);
+        sm.getSTFactory().getRowCache().invalidateLocale(locale);
         return postId;
     }
 
@@ -1325,6 +1334,7 @@ public class SurveyForum {
         }
         System.out.println(
                 "closeThreads finished: rootCount = " + rootCount + "; postCount = " + postCount);
+        localeForumStatusMap.clear(); // threads may be in any locale
         return postCount;
     }
 
@@ -1545,8 +1555,11 @@ public class SurveyForum {
         public boolean hasPosts, hasOpenPosts;
 
         public PathForumStatus(CLDRLocale locale, String xpath) {
-            LocaleForumStatus lfs =
-                    localeForumStatusMap.computeIfAbsent(locale, LocaleForumStatus::new);
+            this(getLocaleForumStatus(locale), xpath);
+        }
+
+        /** Status from the locale's status, to avoid looking it up for each path of a page */
+        public PathForumStatus(LocaleForumStatus lfs, String xpath) {
             if (lfs.pathsWithSomeOpenPosts.contains(xpath)) {
                 this.hasPosts = this.hasOpenPosts = true;
             } else if (lfs.pathsWithOnlyClosedPosts.contains(xpath)) {
@@ -1561,6 +1574,12 @@ public class SurveyForum {
     public static class LocaleForumStatus {
         Set<String> pathsWithSomeOpenPosts, pathsWithOnlyClosedPosts;
 
+        /** xpath id to number of posts, for paths with posts */
+        private final Map<Integer, Integer> postCounts = new HashMap<>();
+
+        /** false if the status couldn't be read from the db */
+        private boolean loaded = false;
+
         public LocaleForumStatus(CLDRLocale locale) {
             this.pathsWithSomeOpenPosts = ConcurrentHashMap.newKeySet();
             this.pathsWithOnlyClosedPosts = ConcurrentHashMap.newKeySet();
@@ -1568,7 +1587,9 @@ public class SurveyForum {
             final String localeId = locale.getBaseName();
             final String tableName = DBUtils.Table.FORUM_POSTS.toString();
             final String query =
-                    "SELECT xpath, MAX(is_open) FROM " + tableName + " WHERE loc=? GROUP BY xpath";
+                    "SELECT xpath, MAX(is_open), COUNT(*) FROM "
+                            + tableName
+                            + " WHERE loc=? GROUP BY xpath";
             Connection conn = null;
             PreparedStatement ps = null;
             try {
@@ -1581,6 +1602,7 @@ public class SurveyForum {
                 ResultSet rs = ps.executeQuery();
                 while (rs.next()) {
                     int xp = rs.getInt(1);
+                    postCounts.put(xp, rs.getInt(3));
                     if (xp <= 0) {
                         continue;
                     }
@@ -1596,6 +1618,7 @@ public class SurveyForum {
                     }
                 }
                 rs.close();
+                loaded = true;
             } catch (SQLException e) {
                 String complaint =
                         "SurveyForum: Error getting status for locale "
@@ -1607,5 +1630,26 @@ public class SurveyForum {
                 DBUtils.close(ps, conn);
             }
         }
+
+        /**
+         * @return the number of posts for the xpath
+         */
+        public int getPostCount(int xpathId) {
+            return postCounts.getOrDefault(xpathId, 0);
+        }
+
+        /**
+         * @return map from xpath id to the number of posts, only for xpaths which have posts
+         */
+        public Map<Integer, Integer> getPostCounts(Collection<Integer> xpathIds) {
+            final Map<Integer, Integer> counts = new HashMap<>();
+            for (Integer xp : xpathIds) {
+                final Integer count = postCounts.get(xp);
+                if (count != null) {
+                    counts.put(xp, count);
+                }
+            }
+            return counts;
+        }
     }
 }
@@ -0,0 +1,314 @@
+package org.unicode.cldr.web;
+
+import com.google.common.cache.CacheStats;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.unicode.cldr.util.CLDRConfig;
+
+/**
+ * Counts and times db statements and api requests, and collects cache hit rates, for the admin
+ * instrumentation endpoint.
+ *
+ * <ul>
+ *   <li>Connections from DBUtils are wrapped so that each statement executed is counted and timed,
+ *       both overall and for the api request being handled on the same thread.
+ *   <li>Each api request is timed by endpoint (resource class and method), in a histogram.
+ *   <li>Caches register a supplier of their Guava stats.
+ * </ul>
+ *
+ * Statements and requests are only instrumented if CLDR_INSTRUMENT is true; otherwise connections
+ * are not wrapped, and requests are not timed.
+ */
+public class SurveyInstrumentation {
+    /** Config: set to true to count and time db statements and api requests */
+    private static final String CLDR_INSTRUMENT = "CLDR_INSTRUMENT";
+
+    private static final boolean ENABLED =
+            CLDRConfig.getInstance().getProperty(CLDR_INSTRUMENT, false);
+
+    /** Upper bounds of the histogram buckets, in ms; the last bucket has no bound */
+    private static final long[] BUCKET_MILLIS = {
+        1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000
+    };
+
+    /** A thread-safe histogram of durations */
+    static final class Histogram {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_MILLIS.length + 1);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int b = 0;
+            while (b < BUCKET_MILLIS.length && millis > BUCKET_MILLIS[b]) {
+                b++;
+            }
+            buckets.incrementAndGet(b);
+        }
+    }
+
+    /** Timing of one api endpoint, with the db statements made while handling it */
+    static final class EndpointTiming {
+        final Histogram latency = new Histogram();
+        final LongAdder statements = new LongAdder();
+        final LongAdder statementNanos = new LongAdder();
+    }
+
+    /** The db statements made on one thread, for the request being handled */
+    private static final class RequestCounter {
+        int statements = 0;
+        long nanos = 0;
+    }
+
+    private static final ThreadLocal<RequestCounter> requestCounter = new ThreadLocal<>();
+
+    private static final Histogram statementTimes = new Histogram();
+
+    private static final Map<String, EndpointTiming> endpoints = new ConcurrentHashMap<>();
+
+    private static final Map<String, Supplier<CacheStats>> caches = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Wrap a connection so that its statements are counted and timed, if enabled
+     *
+     * @param conn the connection, or null
+     * @return the wrapped connection, or conn itself if not enabled
+     */
+    public static Connection wrap(Connection conn) {
+        if (!ENABLED || conn == null) {
+            return conn;
+        }
+        return instrument(conn);
+    }
+
+    /** Wrap a connection, whether or not enabled */
+    static Connection instrument(Connection conn) {
+        return (Connection)
+                Proxy.newProxyInstance(
+                        SurveyInstrumentation.class.getClassLoader(),
+                        new Class<?>[] {Connection.class},
+                        new ConnectionHandler(conn));
+    }
+
+    /** Wraps each statement created by the connection */
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection conn;
+
+        ConnectionHandler(Connection conn) {
+            this.conn = conn;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final Object result = invokeOn(conn, method, args);
+            final Class<?> type = method.getReturnType();
+            if (result != null && Statement.class.isAssignableFrom(type)) {
+                // Statement, PreparedStatement or CallableStatement
+                return Proxy.newProxyInstance(
+                        SurveyInstrumentation.class.getClassLoader(),
+                        new Class<?>[] {type},
+                        new StatementHandler((Statement) result));
+            }
+            return result;
+        }
+    }
+
+    /** Times each execute* call */
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+
+        StatementHandler(Statement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return invokeOn(statement, method, args);
+            }
+            final long start = System.nanoTime();
+            try {
+                return invokeOn(statement, method, args);
+            } finally {
+                countStatement(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void countStatement(long nanos) {
+        statementTimes.record(nanos);
+        final RequestCounter rc = requestCounter.get();
+        if (rc != null) {
+            rc.statements++;
+            rc.nanos += nanos;
+        }
+    }
+
+    /** Start counting the statements made on this thread, for a new request */
+    public static void beginRequest() {
+        requestCounter.set(new RequestCounter());
+    }
+
+    /**
+     * Stop counting the statements made on this thread. A request that ends in an exception may
+     * never reach endRequest, and its counter must not be left on a pooled thread.
+     */
+    public static void clearRequest() {
+        requestCounter.remove();
+    }
+
+    /**
+     * Record a request, with the statements made on this thread since beginRequest
+     *
+     * @param endpoint the name of the endpoint, such as "VoteAPI.getPage"
+     * @param nanos how long the request took
+     */
+    public static void endRequest(String endpoint, long nanos) {
+        final EndpointTiming timing =
+                endpoints.computeIfAbsent(endpoint, k -> new EndpointTiming());
+        timing.latency.record(nanos);
+        final RequestCounter rc = requestCounter.get();
+        if (rc != null) {
+            timing.statements.add(rc.statements);
+            timing.statementNanos.add(rc.nanos);
+            requestCounter.remove();
+        }
+    }
+
+    /**
+     * Report the stats of a cache; the cache should be built with recordStats()
+     *
+     * @param name the name to report
+     * @param stats gets the current stats; replaces any earlier supplier for the name
+     */
+    public static void registerCache(String name, Supplier<CacheStats> stats) {
+        caches.put(name, stats);
+    }
+
+    /** Forget all counts and times, but not the registered caches */
+    public static void reset() {
+        endpoints.clear();
+        resetHistogram(statementTimes);
+    }
+
+    private static void resetHistogram(Histogram h) {
+        h.count.reset();
+        h.totalNanos.reset();
+        h.maxNanos.set(0);
+        for (int i = 0; i < h.buckets.length(); i++) {
+            h.buckets.set(i, 0);
+        }
+    }
+
+    /** Get a report of everything, for the admin endpoint */
+    public static Report getReport() {
+        return new Report();
+    }
+
+    /** Counts and times of everything instrumented */
+    public static final class Report {
+        /** true if statements and requests are instrumented (CLDR_INSTRUMENT) */
+        public final boolean enabled = ENABLED;
+
+        /** all db statements */
+        public final TimingReport statements = new TimingReport(statementTimes);
+
+        /** api requests, by endpoint */
+        public final Map<String, EndpointReport> endpoints = new TreeMap<>();
+
+        /** cache stats, by cache */
+        public final Map<String, CacheReport> caches = new TreeMap<>();
+
+        private Report() {
+            SurveyInstrumentation.endpoints.forEach(
+                    (k, v) -> endpoints.put(k, new EndpointReport(v)));
+            SurveyInstrumentation.caches.forEach(
+                    (k, v) -> caches.put(k, new CacheReport(v.get())));
+        }
+    }
+
+    /** A histogram of durations */
+    public static final class TimingReport {
+        public final long count;
+        public final double meanMillis;
+        public final double maxMillis;
+
+        /** count by bucket, such as "<=10ms", in increasing order */
+        public final Map<String, Long> histogram = new LinkedHashMap<>();
+
+        TimingReport(Histogram h) {
+            count = h.count.sum();
+            meanMillis = (count == 0) ? 0 : millis(h.totalNanos.sum()) / count;
+            maxMillis = millis(h.maxNanos.get());
+            for (int b = 0; b < h.buckets.length(); b++) {
+                final String label =
+                        (b < BUCKET_MILLIS.length)
+                                ? "<=" + BUCKET_MILLIS[b] + "ms"
+                                : ">" + BUCKET_MILLIS[b - 1] + "ms";
+                histogram.put(label, h.buckets.get(b));
+            }
+        }
+    }
+
+    /** Latency of an endpoint, and the db statements made by its requests */
+    public static final class EndpointReport {
+        public final TimingReport latency;
+        public final double statementsPerRequest;
+        public final double statementMillisPerRequest;
+
+        EndpointReport(EndpointTiming t) {
+            latency = new TimingReport(t.latency);
+            final long n = Math.max(1, latency.count);
+            statementsPerRequest = (double) t.statements.sum() / n;
+            statementMillisPerRequest = millis(t.statementNanos.sum()) / n;
+        }
+    }
+
+    /** Hit rate of a cache */
+    public static final class CacheReport {
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final double hitRate;
+
+        CacheReport(CacheStats s) {
+            hits = s.hitCount();
+            misses = s.missCount();
+            evictions = s.evictionCount();
+            hitRate = s.hitRate();
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -2380,17 +2380,30 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
     }
 
     private Supplier<STFactory> newSTFactorySupplier() {
-        return Suppliers.memoize(() -> new STFactory(this));
+        return Suppliers.memoize(() -> createdSTFactory = new STFactory(this));
     }
 
+    /** The factory created by gSTFactory, if any, so that it can be shut down */
+    private volatile STFactory createdSTFactory;
+
     private Supplier<STFactory> gSTFactory = newSTFactorySupplier();
 
     /** destroy the ST Factory - testing use only! */
     public final synchronized void TESTING_removeSTFactory() {
+        shutdownSTFactory();
         // resets the factory
         gSTFactory = newSTFactorySupplier();
     }
 
+    /** Shut down the current factory, if it was ever created */
+    private synchronized void shutdownSTFactory() {
+        final STFactory fac = createdSTFactory;
+        if (fac != null) {
+            fac.shutdown();
+            createdSTFactory = null;
+        }
+    }
+
     private final Set<UserLocaleStuff> allUserLocaleStuffs = new HashSet<>();
 
     public static final String QUERY_VALUE_SUFFIX = "_v";
@@ -2934,6 +2947,7 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
             if (isBusted == null) {
                 MailSender.getInstance();
                 Summary.scheduleAutomaticSnapshots();
+                LocalePrewarmer.schedulePrewarm(this);
             } else {
                 progress.update("Not loading mail - SurveyTool already busted.");
             }
@@ -3143,6 +3157,8 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
             Summary.shutdown();
             progress.update("shutting down SurveyThreadManager... " + destroyTimer);
             startupThread.shutdown();
+            progress.update("shutting down STFactory... " + destroyTimer);
+            shutdownSTFactory();
             progress.update("Shutting down database..." + destroyTimer);
             doShutdownDB();
             outputFileManager = null;
@@ -0,0 +1,252 @@
+package org.unicode.cldr.web;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.unicode.cldr.util.CLDRConfig;
+
+/**
+ * Stores snapshots in another SurveySnapshot as compressed deltas against a base snapshot, so that
+ * frequent snapshots, which mostly repeat the previous one, take little space.
+ *
+ * <p>Each stored snapshot is one of:
+ *
+ * <ul>
+ *   <li>a base: "gzip:" followed by the gzipped json, in base64
+ *   <li>a delta: "delta:", the id of its base, a newline, then the gzipped edits which turn the
+ *       base into this snapshot, in base64
+ *   <li>plain json, as stored before deltas were used
+ * </ul>
+ *
+ * A delta is always against a base, never against another delta, so getting a snapshot reads at
+ * most two rows. A new base is stored after CLDR_SNAPSHOT_MAX_DELTAS deltas, or when the delta
+ * wouldn't be much smaller than a base.
+ */
+public class SurveySnapshotDeltas implements SurveySnapshot {
+    /** Config: max # of deltas stored against one base */
+    private static final String CLDR_SNAPSHOT_MAX_DELTAS = "CLDR_SNAPSHOT_MAX_DELTAS";
+
+    private static final String BASE_PREFIX = "gzip:";
+    private static final String DELTA_PREFIX = "delta:";
+
+    /**
+     * The json is split into lines at the escaped newlines in its strings (the summary output is
+     * html with one cell per line). Splitting and joining at the same two chars is lossless,
+     * whatever they mean in the json.
+     */
+    private static final String LINE_SEPARATOR = "\\n";
+
+    private static final Pattern LINE_SPLITTER = Pattern.compile(Pattern.quote(LINE_SEPARATOR));
+
+    /** How far ahead in the base to look for a changed line */
+    private static final int LOOKAHEAD = 512;
+
+    private final SurveySnapshot store;
+    private final int maxDeltas;
+
+    /** the most recent base, or null if none since startup */
+    private String baseId = null;
+
+    private String baseJson = null;
+    private int deltasSinceBase = 0;
+
+    public SurveySnapshotDeltas(SurveySnapshot store) {
+        this.store = store;
+        this.maxDeltas = CLDRConfig.getInstance().getProperty(CLDR_SNAPSHOT_MAX_DELTAS, 100);
+    }
+
+    @Override
+    public synchronized void put(String snapshotId, String json) {
+        final String base = encodeBase(json);
+        if (baseId != null && deltasSinceBase < maxDeltas) {
+            final String delta = encodeDelta(baseId, baseJson, json);
+            if (delta.length() * 2 < base.length()) {
+                store.put(snapshotId, delta);
+                deltasSinceBase++;
+                return;
+            }
+        }
+        store.put(snapshotId, base);
+        baseId = snapshotId;
+        baseJson = json;
+        deltasSinceBase = 0;
+    }
+
+    @Override
+    public String get(String snapshotId) {
+        final String stored = store.get(snapshotId);
+        if (stored == null || !stored.startsWith(DELTA_PREFIX)) {
+            return decodeBase(stored);
+        }
+        final int newline = stored.indexOf('\n');
+        final String id = stored.substring(DELTA_PREFIX.length(), newline);
+        String json;
+        synchronized (this) {
+            json = id.equals(baseId) ? baseJson : null;
+        }
+        if (json == null) {
+            json = decodeBase(store.get(id));
+            if (json == null) {
+                return null; // base is missing
+            }
+        }
+        return applyDelta(json, unzip(stored.substring(newline + 1)));
+    }
+
+    @Override
+    public String[] list() {
+        return store.list();
+    }
+
+    static String encodeBase(String json) {
+        return BASE_PREFIX + zip(json);
+    }
+
+    /**
+     * @return the json, or null if stored is null
+     */
+    static String decodeBase(String stored) {
+        if (stored == null || !stored.startsWith(BASE_PREFIX)) {
+            return stored;
+        }
+        return unzip(stored.substring(BASE_PREFIX.length()));
+    }
+
+    static String encodeDelta(String baseId, String baseJson, String json) {
+        return DELTA_PREFIX + baseId + "\n" + zip(diff(baseJson, json));
+    }
+
+    /**
+     * Compute the edits which turn the base into the new json, as a sequence of:
+     *
+     * <ul>
+     *   <li>"=n;" copy n lines from the base
+     *   <li>"-n;" skip n lines of the base
+     *   <li>"+len:line" insert a line of len chars
+     * </ul>
+     *
+     * This is a greedy diff, which is enough for snapshots where most lines are unchanged and in
+     * the same order. Edits are never wrong, just larger than needed if lines were moved.
+     */
+    static String diff(String baseJson, String json) {
+        final List<String> base = split(baseJson);
+        final List<String> lines = split(json);
+        final StringBuilder sb = new StringBuilder();
+        int b = 0;
+        int copy = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i);
+            if (b < base.size() && base.get(b).equals(line)) {
+                copy++;
+                b++;
+                continue;
+            }
+            final int found = findResync(base, b, lines, i);
+            if (copy > 0) {
+                sb.append('=').append(copy).append(';');
+                copy = 0;
+            }
+            if (found >= 0) {
+                sb.append('-').append(found - b).append(';');
+                b = found + 1;
+                copy = 1;
+            } else {
+                sb.append('+').append(line.length()).append(':').append(line);
+            }
+        }
+        if (copy > 0) {
+            sb.append('=').append(copy).append(';');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Look ahead in the base for lines i and i+1 of the new json
+     *
+     * @return the position in the base of line i, or -1
+     */
+    private static int findResync(List<String> base, int b, List<String> lines, int i) {
+        final int end = Math.min(base.size(), b + LOOKAHEAD);
+        final String line = lines.get(i);
+        for (int j = b + 1; j < end; j++) {
+            if (base.get(j).equals(line)
+                    && (i + 1 == lines.size()
+                            || (j + 1 < base.size()
+                                    && base.get(j + 1).equals(lines.get(i + 1))))) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    /** Apply edits from diff() to the base */
+    static String applyDelta(String baseJson, String delta) {
+        final List<String> base = split(baseJson);
+        final StringBuilder sb = new StringBuilder(baseJson.length());
+        boolean first = true;
+        int b = 0;
+        int pos = 0;
+        while (pos < delta.length()) {
+            final char op = delta.charAt(pos);
+            if (op == '+') {
+                final int colon = delta.indexOf(':', pos);
+                final int len = Integer.parseInt(delta.substring(pos + 1, colon));
+                first = appendLine(sb, first, delta.substring(colon + 1, colon + 1 + len));
+                pos = colon + 1 + len;
+            } else {
+                final int semi = delta.indexOf(';', pos);
+                final int n = Integer.parseInt(delta.substring(pos + 1, semi));
+                if (op == '=') {
+                    for (int k = 0; k < n; k++) {
+                        first = appendLine(sb, first, base.get(b++));
+                    }
+                } else if (op == '-') {
+                    b += n;
+                } else {
+                    throw new IllegalArgumentException("Bad snapshot delta at " + pos);
+                }
+                pos = semi + 1;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean appendLine(StringBuilder sb, boolean first, String line) {
+        if (!first) {
+            sb.append(LINE_SEPARATOR);
+        }
+        sb.append(line);
+        return false;
+    }
+
+    private static List<String> split(String json) {
+        return Arrays.asList(LINE_SPLITTER.split(json, -1));
+    }
+
+    private static String zip(String s) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(bytes)) {
+            gz.write(s.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private static String unzip(String s) {
+        try (GZIPInputStream gz =
+                new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(s)))) {
+            return new String(gz.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
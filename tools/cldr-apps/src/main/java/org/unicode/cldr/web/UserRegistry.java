@@ -13,6 +13,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.json.JSONException;
@@ -389,7 +390,7 @@ public class UserRegistry {
         }
 
         @Schema(name = "userLevelName", description = "VoteResolver.Level user level")
-        public synchronized VoteResolver.Level getLevel() {
+        public VoteResolver.Level getLevel() {
             // CAUTION: this name, like "VETTER", is uppercase when serialized for json response,
             // while
             // in some other http responses, lowercase levels like "vetter" are used -- we should be
@@ -406,14 +407,16 @@ public class UserRegistry {
             return getPassword();
         }
 
-        public synchronized Organization getOrganization() {
-            if (vr_org == null) {
-                vr_org = UserRegistry.computeVROrganization(this.org);
+        public Organization getOrganization() {
+            Organization o = vr_org;
+            if (o == null) {
+                // computed the same way by any thread, so no lock is needed
+                vr_org = o = UserRegistry.computeVROrganization(this.org);
             }
-            return vr_org;
+            return o;
         }
 
-        private Organization vr_org = null;
+        private volatile Organization vr_org = null;
 
         private String voterOrg = null;
 
@@ -612,9 +615,9 @@ public class UserRegistry {
                         + "</a>");
     }
 
-    private static final Map<String, Organization> orgToVrOrg = new HashMap<>();
+    private static final Map<String, Organization> orgToVrOrg = new ConcurrentHashMap<>();
 
-    public static synchronized Organization computeVROrganization(String org) {
+    public static Organization computeVROrganization(String org) {
         Organization o = Organization.fromString(org);
         if (o == null) {
             o = orgToVrOrg.get(org);
@@ -798,8 +801,14 @@ public class UserRegistry {
     /** info = name/email/org immutable info, keep it in a separate list for quick lookup. */
     public static final int CHUNKSIZE = 128;
 
-    int arraySize = 0;
-    UserRegistry.User[] infoArray = new UserRegistry.User[arraySize];
+    /**
+     * Users by id, null if not loaded. Copy-on-write: a published array is never modified, so
+     * getInfo can read it without a lock.
+     */
+    private volatile UserRegistry.User[] infoArray = new UserRegistry.User[0];
+
+    /** Held while replacing infoArray */
+    private final Object infoLock = new Object();
 
     /**
      * Mark user as modified
@@ -807,24 +816,25 @@ public class UserRegistry {
      * @param id
      */
     public void userModified(int id) {
-        synchronized (infoArray) {
-            try {
-                infoArray[id] = null;
-            } catch (IndexOutOfBoundsException ioob) {
-                // nothing to do
+        synchronized (infoLock) {
+            final User[] users = infoArray;
+            if (id >= 0 && id < users.length && users[id] != null) {
+                final User[] copy = users.clone();
+                copy[id] = null;
+                infoArray = copy;
             }
         }
         userModified(); // do this if any users are modified
     }
 
     /**
-     * Mark the UserRegistry as changed, purging the VoterInfo map
+     * Mark the UserRegistry as changed, reloading the VoterInfo map
      *
      * @see #getVoterToInfo()
      */
     void userModified() {
-        voterInfo = null;
-        getVoterToInfo(); // reset maps
+        loadVoterInfo();
+        RowCache.usersModified(); // rows show voters' names and levels
     }
 
     /**
@@ -837,81 +847,88 @@ public class UserRegistry {
         if (id < 0) {
             return null;
         }
-        synchronized (infoArray) {
-            User ret;
-            try {
-                ret = infoArray[id];
-            } catch (IndexOutOfBoundsException ioob) {
-                ret = null; // not found
+        final User[] users = infoArray;
+        if (id < users.length && users[id] != null) {
+            return users[id];
+        }
+        synchronized (infoLock) {
+            final User[] current = infoArray; // may have been loaded meanwhile
+            if (id < current.length && current[id] != null) {
+                return current[id];
             }
+            final User u = loadInfo(id);
+            if (u != null) {
+                final User[] copy =
+                        Arrays.copyOf(
+                                current,
+                                Math.max(current.length, ((id / CHUNKSIZE) + 1) * CHUNKSIZE));
+                copy[id] = u;
+                infoArray = copy;
+            }
+            return u;
+        }
+    }
 
-            if (ret == null) { // synchronized(conn) {
-                ResultSet rs = null;
-                PreparedStatement pstmt = null;
-                Connection conn = DBUtils.getInstance().getAConnection();
-                try {
-                    pstmt = DBUtils.prepareForwardReadOnly(conn, UserRegistry.SQL_queryIdStmt_FRO);
-                    pstmt.setInt(1, id);
-                    // First, try to query it back from the DB.
-                    rs = pstmt.executeQuery();
-                    if (!rs.next()) {
-                        return null;
-                    }
-                    User u = new UserRegistry.User(id);
-                    // from params:
-                    u.name = DBUtils.getStringUTF8(rs, 1);
-                    u.org = Organization.fromString(rs.getString(2)).name();
-                    u.getOrganization(); // verify
-
-                    u.email = rs.getString(3);
-                    u.userlevel = rs.getInt(4);
-                    u.intlocs = rs.getString(5);
-                    u.locales = LocaleNormalizer.normalizeQuietly(rs.getString(6));
-                    u.last_connect = rs.getTimestamp(7);
-                    u.password = rs.getString(8);
-                    ret = u; // let it finish..
-
-                    if (id >= arraySize) {
-                        int newchunk = (((id + 1) / CHUNKSIZE) + 1) * CHUNKSIZE;
-                        infoArray = new UserRegistry.User[newchunk];
-                        arraySize = newchunk;
-                    }
-
-                    u.claSigned = (u.getCla() != null);
+    /**
+     * Read one user from the db
+     *
+     * @return the user, or null if not found
+     */
+    private UserRegistry.User loadInfo(int id) {
+        ResultSet rs = null;
+        PreparedStatement pstmt = null;
+        Connection conn = DBUtils.getInstance().getAConnection();
+        try {
+            pstmt = DBUtils.prepareForwardReadOnly(conn, UserRegistry.SQL_queryIdStmt_FRO);
+            pstmt.setInt(1, id);
+            // First, try to query it back from the DB.
+            rs = pstmt.executeQuery();
+            if (!rs.next()) {
+                return null;
+            }
+            User u = new UserRegistry.User(id);
+            // from params:
+            u.name = DBUtils.getStringUTF8(rs, 1);
+            u.org = Organization.fromString(rs.getString(2)).name();
+            u.getOrganization(); // verify
+
+            u.email = rs.getString(3);
+            u.userlevel = rs.getInt(4);
+            u.intlocs = rs.getString(5);
+            u.locales = LocaleNormalizer.normalizeQuietly(rs.getString(6));
+            u.last_connect = rs.getTimestamp(7);
+            u.password = rs.getString(8);
+            u.claSigned = (u.getCla() != null);
 
-                    infoArray[id] = u;
-                    // good so far..
-                    if (rs.next()) {
-                        // dup returned!
-                        throw new InternalError("Dup user id # " + id);
-                    }
-                } catch (SQLException se) {
-                    logger.log(
-                            java.util.logging.Level.SEVERE,
-                            "UserRegistry: SQL error trying to get #"
-                                    + id
-                                    + " - "
-                                    + DBUtils.unchainSqlException(se),
-                            se);
-                    throw new InternalError(
-                            "UserRegistry: SQL error trying to get #"
-                                    + id
-                                    + " - "
-                                    + DBUtils.unchainSqlException(se));
-                } catch (Throwable t) {
-                    logger.log(
-                            java.util.logging.Level.SEVERE,
-                            "UserRegistry: some error trying to get #" + id,
-                            t);
-                    throw new InternalError(
-                            "UserRegistry: some error trying to get #" + id + " - " + t);
-                } finally {
-                    // close out the RS
-                    DBUtils.close(rs, pstmt, conn);
-                } // end try
+            // good so far..
+            if (rs.next()) {
+                // dup returned!
+                throw new InternalError("Dup user id # " + id);
             }
-            return ret;
-        } // end synch array
+            return u;
+        } catch (SQLException se) {
+            logger.log(
+                    java.util.logging.Level.SEVERE,
+                    "UserRegistry: SQL error trying to get #"
+                            + id
+                            + " - "
+                            + DBUtils.unchainSqlException(se),
+                    se);
+            throw new InternalError(
+                    "UserRegistry: SQL error trying to get #"
+                            + id
+                            + " - "
+                            + DBUtils.unchainSqlException(se));
+        } catch (Throwable t) {
+            logger.log(
+                    java.util.logging.Level.SEVERE,
+                    "UserRegistry: some error trying to get #" + id,
+                    t);
+            throw new InternalError("UserRegistry: some error trying to get #" + id + " - " + t);
+        } finally {
+            // close out the RS
+            DBUtils.close(rs, pstmt, conn);
+        } // end try
     }
 
     private String normalizeEmail(String str) {
@@ -2021,8 +2038,8 @@ public class UserRegistry {
         return getVoterToInfo().get(userid);
     }
 
-    public synchronized VoterInfoList getVoterInfoList() {
-        getVoterToInfo(); // to make sure voterInfoList is up to date
+    public VoterInfoList getVoterInfoList() {
+        getVoterToInfo(); // to make sure voterInfoList is loaded
         return voterInfoList;
     }
 
@@ -2032,72 +2049,88 @@ public class UserRegistry {
      *
      * @see #userModified()
      */
-    public synchronized Map<Integer, VoterInfo> getVoterToInfo() {
-        if (voterInfo == null) {
-            Map<Integer, VoterInfo> map = new TreeMap<>();
+    public Map<Integer, VoterInfo> getVoterToInfo() {
+        final Map<Integer, VoterInfo> map = voterInfo;
+        if (map != null) {
+            return map;
+        }
+        synchronized (this) {
+            return (voterInfo != null) ? voterInfo : loadVoterInfo(); // may have been loaded
+        }
+    }
 
-            ResultSet rs = null;
-            PreparedStatement ps;
-            Connection conn = null;
-            try {
-                conn = DBUtils.getInstance().getAConnection();
-                ps = list(null, conn);
-                rs = ps.executeQuery();
-                // id,userlevel,name,email,org,locales,intlocs,lastlogin
-                while (rs.next()) {
-                    // We don't go through the cache, because not all users may
-                    // be loaded.
+    /**
+     * Read all users from the db into a new VoterInfo map, then publish it. Readers keep using the
+     * previous map until then.
+     *
+     * @return the new map, or the previous one if there was an error
+     */
+    private synchronized Map<Integer, VoterInfo> loadVoterInfo() {
+        Map<Integer, VoterInfo> map = new TreeMap<>();
 
-                    User u = new UserRegistry.User(rs.getInt(1));
-                    // from params:
-                    u.userlevel = rs.getInt(2);
-                    u.name = DBUtils.getStringUTF8(rs, 3);
-                    u.email = rs.getString(4);
-                    u.org = rs.getString(5);
-                    u.locales = rs.getString(6);
-                    if (LocaleNormalizer.isAllLocales(u.locales)) {
-                        u.locales = LocaleNormalizer.ALL_LOCALES;
-                    }
-                    u.intlocs = rs.getString(7);
-                    u.last_connect = rs.getTimestamp(8);
+        ResultSet rs = null;
+        PreparedStatement ps;
+        Connection conn = null;
+        try {
+            conn = DBUtils.getInstance().getAConnection();
+            ps = list(null, conn);
+            rs = ps.executeQuery();
+            // id,userlevel,name,email,org,locales,intlocs,lastlogin
+            while (rs.next()) {
+                // We don't go through the cache, because not all users may
+                // be loaded.
+
+                User u = new UserRegistry.User(rs.getInt(1));
+                // from params:
+                u.userlevel = rs.getInt(2);
+                u.name = DBUtils.getStringUTF8(rs, 3);
+                u.email = rs.getString(4);
+                u.org = rs.getString(5);
+                u.locales = rs.getString(6);
+                if (LocaleNormalizer.isAllLocales(u.locales)) {
+                    u.locales = LocaleNormalizer.ALL_LOCALES;
+                }
+                u.intlocs = rs.getString(7);
+                u.last_connect = rs.getTimestamp(8);
 
-                    // now, map it to a UserInfo
-                    VoterInfo v = u.createVoterInfo();
+                // now, map it to a UserInfo
+                VoterInfo v = u.createVoterInfo();
 
-                    map.put(u.id, v);
-                }
-                voterInfo = map;
-                VoterInfoList vil = voterInfoList;
-                if (voterInfoList == null) {
-                    vil = new VoterInfoList();
-                }
-                vil.setVoterToInfo(map);
-                if (voterInfoList != vil) {
-                    voterInfoList = vil;
-                }
-            } catch (SQLException se) {
-                logger.log(
-                        java.util.logging.Level.SEVERE,
-                        "UserRegistry: SQL error trying to  update VoterInfo - "
-                                + DBUtils.unchainSqlException(se),
-                        se);
-            } catch (Throwable t) {
-                logger.log(
-                        java.util.logging.Level.SEVERE,
-                        "UserRegistry: some error trying to update VoterInfo - " + t,
-                        t);
-            } finally {
-                // close out the RS
-                DBUtils.close(rs, conn);
-            } // end try
-        }
+                map.put(u.id, v);
+            }
+            map = Collections.unmodifiableMap(map);
+            VoterInfoList vil = voterInfoList;
+            if (vil == null) {
+                vil = new VoterInfoList();
+            }
+            vil.setVoterToInfo(map);
+            voterInfoList = vil;
+            voterInfo = map;
+        } catch (SQLException se) {
+            logger.log(
+                    java.util.logging.Level.SEVERE,
+                    "UserRegistry: SQL error trying to  update VoterInfo - "
+                            + DBUtils.unchainSqlException(se),
+                    se);
+        } catch (Throwable t) {
+            logger.log(
+                    java.util.logging.Level.SEVERE,
+                    "UserRegistry: some error trying to update VoterInfo - " + t,
+                    t);
+        } finally {
+            // close out the RS
+            DBUtils.close(rs, conn);
+        } // end try
         return voterInfo;
     }
 
-    /** VoterInfo map */
-    private Map<Integer, VoterInfo> voterInfo = null;
+    /**
+     * VoterInfo map, unmodifiable. Replaced as a whole when any user changes, so it can be read
+     * without a lock.
+     */
+    private volatile Map<Integer, VoterInfo> voterInfo = null;
 
-    VoterInfoList voterInfoList = null;
+    volatile VoterInfoList voterInfoList = null;
 
     /**
      * The list of organizations
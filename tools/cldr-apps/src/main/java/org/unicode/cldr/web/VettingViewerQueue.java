@@ -4,6 +4,7 @@ import com.ibm.icu.dev.util.ElapsedTimer;
 import java.io.IOException;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.logging.Logger;
@@ -36,7 +37,7 @@ public class VettingViewerQueue {
         return VettingViewerQueueHelper.instance;
     }
 
-    private static int gMax = -1;
+    private static volatile int gMax = -1;
 
     /**
      * Count the # of paths in this CLDRFile
@@ -53,16 +54,40 @@ public class VettingViewerQueue {
     }
 
     /**
-     * Get the max expected items in a CLDRFile
+     * Get the max expected items in a CLDRFile. This is only an estimate for progress, so the
+     * count isn't locked: at worst, two threads both count the paths.
      *
      * @param f
      * @return
      */
-    private synchronized int getMax(CLDRFile f) {
-        if (gMax == -1) {
-            gMax = pathCount(f);
+    private static int getMax(CLDRFile f) {
+        int max = gMax;
+        if (max == -1) {
+            gMax = max = pathCount(f);
         }
-        return gMax;
+        return max;
+    }
+
+    /**
+     * Priority Items Summary results by organization, locale and level, reused until the locale's
+     * stamp changes. Only one summary row and its counts are kept per locale.
+     */
+    private final Map<String, VettingViewer.LocaleSummary> summaryCache =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The stamps of the locale and its parents, since the summary includes inherited values
+     *
+     * @param localeId
+     * @return the combined stamp
+     */
+    private static String getLocaleStamp(String localeId) {
+        final STFactory stf = CookieSession.sm.getSTFactory();
+        final StringBuilder sb = new StringBuilder();
+        for (CLDRLocale l = CLDRLocale.getInstance(localeId); l != null; l = l.getParent()) {
+            sb.append(stf.mintLocaleStamp(l).current()).append('/');
+        }
+        return sb.toString();
     }
 
     /** A unique key for storing QueueEntry objects in QueueMemberId objects */
@@ -136,6 +161,9 @@ public class VettingViewerQueue {
                 double per = (double) (now - start) / (double) n;
                 long rem = (long) ((maxn - n) * per);
                 String remStr = "Estimated completion: " + TimeDiff.timeDiff(now, now - rem);
+                if (localesReused > 0) {
+                    remStr += " (" + localesReused + " unchanged locales reused)";
+                }
                 if (rem <= 1500) { // Less than 1.5 seconds remaining
                     remStr = "Finishing...";
                 }
@@ -145,11 +173,17 @@ public class VettingViewerQueue {
 
             @Override
             public void nudge() {
+                nudge(1);
+            }
+
+            /** Called from the summary's worker threads, so synchronized */
+            @Override
+            public synchronized void nudge(int count) {
                 if (!myThread.isAlive()) {
                     throw new RuntimeException("Not Running- stop now.");
                 }
                 long now = System.currentTimeMillis();
-                n++;
+                n += count;
                 /*
                  * TODO: explain/encapsulate these magic numbers! 5? 10? 1200? 500?
                  * Reference: https://unicode-org.atlassian.net/browse/CLDR-15369
@@ -171,6 +205,12 @@ public class VettingViewerQueue {
                 }
             }
 
+            @Override
+            public synchronized void skipLocale() {
+                maxn = Math.max(n, maxn - pathCountPerLocale);
+                ++localesReused;
+            }
+
             @Override
             public void done() {
                 // note: this method is possibly never called
@@ -189,12 +229,16 @@ public class VettingViewerQueue {
 
         private final QueueEntry entry;
         private final SurveyMain sm;
-        private int maxn;
-        private int n = 0;
+        /** progress, updated by the CLDRProgressCallback from the summary's worker threads */
+        private volatile int maxn;
+
+        private volatile int n = 0;
+        private int pathCountPerLocale;
+        private int localesReused = 0;
         private long start = -1;
         private long last;
         private final Organization usersOrg;
-        private String status = WAITING_IN_LINE_MESSAGE;
+        private volatile String status = WAITING_IN_LINE_MESSAGE;
         private Status statusCode = Status.WAITING; // Need to start out as waiting.
 
         private void setStatus(String status) {
@@ -297,6 +341,7 @@ public class VettingViewerQueue {
             vv.setSummarizeAllLocales(summarizeAllLocales);
             int localeCount = vv.getLocaleCount(usersOrg);
             int pathCount = getMax(sm.getEnglishFile());
+            pathCountPerLocale = pathCount;
             maxn = localeCount * pathCount;
             progress.update("Got VettingViewer");
             statusCode = Status.PROCESSING;
@@ -312,6 +357,7 @@ public class VettingViewerQueue {
                         "Starting generation of Priority Items Summary, " + taskDescription());
             }
             vv.setLocaleBaselineCount(new VVQueueLocaleBaselineCount());
+            vv.setSummaryCache(summaryCache, VettingViewerQueue::getLocaleStamp);
             vv.generatePriorityItemsSummary(aBuffer, choiceSet, usersOrg);
             if (myThread.isAlive()) {
                 if (DEBUG) {
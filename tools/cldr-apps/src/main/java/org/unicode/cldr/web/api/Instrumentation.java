@@ -0,0 +1,85 @@
+package org.unicode.cldr.web.api;
+
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.unicode.cldr.web.CookieSession;
+import org.unicode.cldr.web.SurveyInstrumentation;
+import org.unicode.cldr.web.SurveyInstrumentation.Report;
+import org.unicode.cldr.web.UserRegistry;
+
+@Path("/instrumentation")
+@Tag(name = "instrumentation", description = "APIs for db, endpoint and cache instrumentation")
+public class Instrumentation {
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Get instrumentation",
+            description =
+                    "Returns db statement times, api endpoint latencies with their db statements,"
+                            + " and cache hit rates. Statements and endpoints are only counted"
+                            + " if CLDR_INSTRUMENT is true.")
+    @APIResponses(
+            value = {
+                @APIResponse(
+                        responseCode = "200",
+                        description = "Instrumentation report",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = Report.class))),
+                @APIResponse(responseCode = "401", description = "Not logged in"),
+                @APIResponse(responseCode = "403", description = "Forbidden"),
+            })
+    public Response getInstrumentation(@HeaderParam(Auth.SESSION_HEADER) String sessionString) {
+        final Response denied = checkAdmin(sessionString);
+        if (denied != null) {
+            return denied;
+        }
+        return Response.ok(SurveyInstrumentation.getReport()).build();
+    }
+
+    @DELETE
+    @Operation(
+            summary = "Reset instrumentation",
+            description = "Forget the db statement and api endpoint counts and times")
+    @APIResponses(
+            value = {
+                @APIResponse(responseCode = "204", description = "Reset"),
+                @APIResponse(responseCode = "401", description = "Not logged in"),
+                @APIResponse(responseCode = "403", description = "Forbidden"),
+            })
+    public Response resetInstrumentation(@HeaderParam(Auth.SESSION_HEADER) String sessionString) {
+        final Response denied = checkAdmin(sessionString);
+        if (denied != null) {
+            return denied;
+        }
+        SurveyInstrumentation.reset();
+        return Response.noContent().build();
+    }
+
+    /**
+     * @return an error response, or null if the session belongs to an admin
+     */
+    private static Response checkAdmin(String sessionString) {
+        final CookieSession cs = Auth.getSession(sessionString);
+        if (cs == null) {
+            return Auth.noSessionResponse();
+        }
+        if (!UserRegistry.userIsAdmin(cs.user)) {
+            return Response.status(Response.Status.FORBIDDEN).build();
+        }
+        return null;
+    }
+}
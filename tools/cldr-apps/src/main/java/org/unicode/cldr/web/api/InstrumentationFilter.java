@@ -0,0 +1,53 @@
+package org.unicode.cldr.web.api;
+
+import java.lang.reflect.Method;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import org.unicode.cldr.web.SurveyInstrumentation;
+
+/**
+ * Time each api request by endpoint, with its db statements, if CLDR_INSTRUMENT is enabled.
+ *
+ * <p>Streamed responses are timed until the body starts to be written.
+ */
+@Provider
+public class InstrumentationFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final String START_PROPERTY = InstrumentationFilter.class.getName() + ".start";
+
+    @Context private ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        // The response filter is skipped if a request fails with an unmapped exception, so drop
+        // whatever such a request left on this thread, whether or not instrumentation is enabled.
+        SurveyInstrumentation.clearRequest();
+        if (SurveyInstrumentation.isEnabled()) {
+            request.setProperty(START_PROPERTY, System.nanoTime());
+            SurveyInstrumentation.beginRequest();
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        final Object start = request.getProperty(START_PROPERTY);
+        if (start != null) {
+            SurveyInstrumentation.endRequest(getEndpoint(), System.nanoTime() - (Long) start);
+        }
+    }
+
+    /**
+     * @return the resource class and method, such as "VoteAPI.getPage"
+     */
+    private String getEndpoint() {
+        final Method m = (resourceInfo == null) ? null : resourceInfo.getResourceMethod();
+        if (m == null) {
+            return "(unmatched)";
+        }
+        return resourceInfo.getResourceClass().getSimpleName() + "." + m.getName();
+    }
+}
@@ -0,0 +1,57 @@
+package org.unicode.cldr.web.api;
+
+import java.util.List;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.unicode.cldr.web.LocalePrewarmer;
+
+@Path("/prewarm")
+@Tag(name = "prewarm", description = "APIs for locale prewarming at startup")
+public class Prewarm {
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Get prewarm status",
+            description = "Returns the state and warm time of each locale prewarmed at startup")
+    @APIResponses(
+            value = {
+                @APIResponse(
+                        responseCode = "200",
+                        description = "Prewarm status",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = PrewarmResponse.class)))
+            })
+    public Response getPrewarmStatus() {
+        return Response.ok(new PrewarmResponse(LocalePrewarmer.getInstance())).build();
+    }
+
+    @Schema(description = "Response for prewarm status request")
+    public static final class PrewarmResponse {
+        @Schema(description = "True if prewarming is enabled")
+        public final boolean enabled;
+
+        @Schema(description = "True if all locales have been warmed")
+        public final boolean done;
+
+        @Schema(description = "Status of each locale, in priority order")
+        public final List<LocalePrewarmer.LocaleStatus> locales;
+
+        PrewarmResponse(LocalePrewarmer p) {
+            enabled = (p != null);
+            done = enabled && p.isDone();
+            locales = enabled ? p.getStatus() : List.of();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package org.unicode.cldr.web.api;
+
+import java.io.BufferedWriter;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.unicode.cldr.util.CLDRConfig;
+
+/**
+ * Write large JSON responses, such as pages of rows and the Dashboard, straight to the response
+ * stream, one element at a time, instead of serializing the whole response object at once.
+ *
+ * <p>Each element is written with JSON-B, the same as the JAX-RS provider would, so the output is
+ * the same as for the whole object, as long as properties are written in the JSON-B (lexical)
+ * order and null properties are skipped. The response is gzipped if the client accepts it.
+ */
+public class StreamingJson {
+    /** Config: set to false to never gzip streamed responses */
+    private static final String CLDR_GZIP_JSON = "CLDR_GZIP_JSON";
+
+    private static final boolean GZIP_ENABLED =
+            CLDRConfig.getInstance().getProperty(CLDR_GZIP_JSON, true);
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    /** Jsonb instances are thread safe, and expensive to create */
+    private static final Jsonb jsonb = JsonbBuilder.create();
+
+    /** The body of a streamed response */
+    @FunctionalInterface
+    public interface Body {
+        void write(StreamingJson out) throws IOException;
+    }
+
+    /**
+     * Build a 200 response which streams this body
+     *
+     * @param acceptEncoding the Accept-Encoding header from the request, or null
+     * @param body writes the JSON
+     * @return the response builder, so that the caller can add tags and headers
+     */
+    public static Response.ResponseBuilder ok(String acceptEncoding, Body body) {
+        final boolean gzip = willGzip(acceptEncoding);
+        final StreamingOutput entity = (OutputStream os) -> write(os, gzip, body);
+        final Response.ResponseBuilder rb =
+                Response.ok(entity, MediaType.APPLICATION_JSON_TYPE)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            rb.encoding("gzip");
+        }
+        return rb;
+    }
+
+    /**
+     * @return true if ok() will gzip the response for this Accept-Encoding header
+     */
+    static boolean willGzip(String acceptEncoding) {
+        return GZIP_ENABLED && acceptsGzip(acceptEncoding);
+    }
+
+    /**
+     * Make a strong ETag for a response from ok(). The gzipped and identity bodies are different
+     * representations, so they must have different strong validators: "-gzip" is appended to the
+     * value for a gzipped response.
+     *
+     * @param value the value, which identifies the content
+     * @param acceptEncoding the Accept-Encoding header from the request, or null
+     * @return the tag
+     */
+    static EntityTag makeETag(String value, String acceptEncoding) {
+        return new EntityTag(willGzip(acceptEncoding) ? value + "-gzip" : value);
+    }
+
+    /**
+     * Write the body to the stream, which is not closed
+     *
+     * @param os the stream
+     * @param gzip true to gzip the JSON
+     * @param body writes the JSON
+     */
+    static void write(OutputStream os, boolean gzip, Body body) throws IOException {
+        final OutputStream zos = gzip ? new GZIPOutputStream(os, BUFFER_SIZE) : os;
+        final StreamingJson out =
+                new StreamingJson(
+                        new BufferedWriter(
+                                new OutputStreamWriter(zos, StandardCharsets.UTF_8), BUFFER_SIZE));
+        body.write(out);
+        out.flush();
+        if (gzip) {
+            ((GZIPOutputStream) zos).finish();
+        }
+    }
+
+    /**
+     * @return true if the Accept-Encoding header allows gzip
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String e : acceptEncoding.split(",")) {
+            final String[] parts = e.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" means not acceptable
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].trim().matches("(?i)q\\s*=\\s*0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final Writer w;
+    /** Writer for JSON-B, which closes its writer when done */
+    private final Writer unclosable;
+    /** for each open object or array, true until its first member is written */
+    private final Deque<Boolean> empty = new ArrayDeque<>();
+    /** true after a property name, before its value */
+    private boolean afterName = false;
+
+    private StreamingJson(Writer w) {
+        this.w = w;
+        this.unclosable =
+                new FilterWriter(w) {
+                    @Override
+                    public void close() {}
+                };
+    }
+
+    public StreamingJson beginObject() throws IOException {
+        separator();
+        w.write('{');
+        empty.push(true);
+        return this;
+    }
+
+    public StreamingJson endObject() throws IOException {
+        empty.pop();
+        w.write('}');
+        return this;
+    }
+
+    public StreamingJson beginArray() throws IOException {
+        separator();
+        w.write('[');
+        empty.push(true);
+        return this;
+    }
+
+    public StreamingJson endArray() throws IOException {
+        empty.pop();
+        w.write(']');
+        return this;
+    }
+
+    /**
+     * Start a property of the current object; follow with a value, object or array
+     *
+     * @param name the property name
+     */
+    public StreamingJson name(String name) throws IOException {
+        separator();
+        jsonb.toJson(name, unclosable);
+        w.write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Write a property, unless the value is null, as JSON-B does
+     *
+     * @param name the property name
+     * @param value the value, written with JSON-B
+     */
+    public StreamingJson property(String name, Object value) throws IOException {
+        if (value != null) {
+            name(name).value(value);
+        }
+        return this;
+    }
+
+    /**
+     * Write a value with JSON-B: an array element, or the value of a property
+     *
+     * @param value the value
+     */
+    public StreamingJson value(Object value) throws IOException {
+        separator();
+        if (value == null) {
+            w.write("null");
+        } else {
+            jsonb.toJson(value, unclosable);
+        }
+        return this;
+    }
+
+    /** Write a property whose value is an array, one element at a time, unless it is null */
+    public StreamingJson array(String name, Object[] values) throws IOException {
+        if (values != null) {
+            name(name).beginArray();
+            for (Object v : values) {
+                value(v);
+            }
+            endArray();
+        }
+        return this;
+    }
+
+    /** Write a property whose value is an array, one element at a time, unless it is null */
+    public StreamingJson array(String name, Collection<?> values) throws IOException {
+        if (values != null) {
+            name(name).beginArray();
+            for (Object v : values) {
+                value(v);
+            }
+            endArray();
+        }
+        return this;
+    }
+
+    /** Write a property whose value is a map, one entry at a time, unless it is null */
+    public StreamingJson map(String name, Map<String, ?> values) throws IOException {
+        if (values != null) {
+            name(name).beginObject();
+            for (Map.Entry<String, ?> e : values.entrySet()) {
+                name(e.getKey()).value(e.getValue());
+            }
+            endObject();
+        }
+        return this;
+    }
+
+    /** Write a comma if this isn't the first member of the current object or array */
+    private void separator() throws IOException {
+        if (afterName) {
+            afterName = false; // a property value
+        } else if (!empty.isEmpty()) {
+            if (!empty.pop()) {
+                w.write(',');
+            }
+            empty.push(false);
+        }
+    }
+
+    /** Flush everything written; the caller finishes the gzip stream, if any */
+    private void flush() throws IOException {
+        if (!empty.isEmpty() || afterName) {
+            throw new IllegalStateException("Unclosed JSON object, array or property");
+        }
+        w.flush();
+    }
+}
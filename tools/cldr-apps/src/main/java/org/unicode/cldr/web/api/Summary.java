@@ -20,6 +20,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -47,6 +48,14 @@ public class Summary {
 
     private static final int AUTO_SNAP_MINUTE_OF_HOUR = 0; // 8:00 am
     private static final int AUTO_SNAP_MINIMUM_START_MINUTES = 3;
+
+    /**
+     * Config: minutes between automatic snapshots. By default, once a day at 8:00 am; if less than
+     * a day, start a few minutes after startup instead. Frequent snapshots are cheap, since
+     * unchanged locales are reused and each snapshot is stored as a delta against a base.
+     */
+    private static final String CLDR_AUTO_SNAP_MINUTES = "CLDR_AUTO_SNAP_MINUTES";
+
     private static final String AUTO_SNAP_TIME_ZONE = "America/Los_Angeles";
     private static ScheduledFuture<?> autoSnapshotFuture = null;
 
@@ -67,10 +76,12 @@ public class Summary {
     /**
      * For saving and retrieving "snapshots" of Summary responses
      *
+     * <p>Snapshots are stored as compressed deltas against a base snapshot.
+     *
      * <p>Note: for debugging/testing without using db, new SurveySnapshotDb() can be changed here
      * to new SurveySnapshotMap()
      */
-    private static final SurveySnapshot snap = new SurveySnapshotDb();
+    private static final SurveySnapshot snap = new SurveySnapshotDeltas(new SurveySnapshotDb());
 
     private static final Logger logger = SurveyLog.forClass(Summary.class);
 
@@ -247,14 +258,29 @@ public class Summary {
         if (!autoSnapshotsAreEnabled()) {
             return;
         }
-        final Calendar when = getNextSnap();
-        final long initialDelayMinutes = getMinutesUntil(when);
-        final long repeatPeriodMinutes = TimeUnit.MINUTES.convert(1L, TimeUnit.DAYS);
-        log(
-                "Automatic Summary Snapshots are scheduled daily starting in "
-                        + initialDelayMinutes
-                        + " minutes, at "
-                        + when.getTime());
+        final long dailyMinutes = TimeUnit.MINUTES.convert(1L, TimeUnit.DAYS);
+        final long repeatPeriodMinutes =
+                CLDRConfig.getInstance().getProperty(CLDR_AUTO_SNAP_MINUTES, (int) dailyMinutes);
+        final long initialDelayMinutes;
+        if (repeatPeriodMinutes < dailyMinutes) {
+            initialDelayMinutes = AUTO_SNAP_MINIMUM_START_MINUTES;
+            log(
+                    "Automatic Summary Snapshots are scheduled every "
+                            + repeatPeriodMinutes
+                            + " minutes, starting in "
+                            + initialDelayMinutes
+                            + " minutes");
+        } else {
+            final Calendar when = getNextSnap();
+            initialDelayMinutes = getMinutesUntil(when);
+            log(
+                    "Automatic Summary Snapshots are scheduled every "
+                            + repeatPeriodMinutes
+                            + " minutes starting in "
+                            + initialDelayMinutes
+                            + " minutes, at "
+                            + when.getTime());
+        }
         final ScheduledExecutorService exServ = SurveyThreadManager.getScheduledExecutorService();
         try {
             Summary summary = new Summary();
@@ -476,7 +502,8 @@ public class Summary {
             @PathParam("locale") @Schema(required = true, description = "Locale ID") String locale,
             @PathParam("level") @Schema(required = true, description = "Coverage Level")
                     String level,
-            @HeaderParam(Auth.SESSION_HEADER) String sessionString) {
+            @HeaderParam(Auth.SESSION_HEADER) String sessionString,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         CLDRLocale loc = CLDRLocale.getInstance(locale);
         CookieSession cs = Auth.getSession(sessionString);
         if (cs == null) {
@@ -489,7 +516,21 @@ public class Summary {
         ReviewOutput ret = new Dashboard().get(loc, cs.user, coverageLevel, null /* xpath */);
         ret.coverageLevel = coverageLevel.name();
 
-        return Response.ok().entity(ret).build();
+        // Dashboards can have many thousands of entries; write one notification at a time.
+        return StreamingJson.ok(acceptEncoding, out -> writeDashboard(out, ret)).build();
+    }
+
+    /**
+     * Stream a ReviewOutput one notification at a time. The properties are in the JSON-B order, so
+     * the output is the same as serializing the whole ReviewOutput.
+     */
+    static void writeDashboard(StreamingJson out, ReviewOutput ret) throws IOException {
+        out.beginObject()
+                .property("coverageLevel", ret.coverageLevel)
+                .property("hidden", ret.getHidden())
+                .array("notifications", ret.getNotifications())
+                .property("voterProgress", ret.voterProgress)
+                .endObject();
     }
 
     @GET
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.ws.rs.*;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -52,6 +53,9 @@ public class VoteAPI {
                                 @Content(
                                         mediaType = "application/json",
                                         schema = @Schema(implementation = RowResponse.class))),
+                @APIResponse(
+                        responseCode = "304",
+                        description = "Not modified since the ETag in If-None-Match"),
                 @APIResponse(
                         responseCode = "401",
                         description = "Authorization required, send a valid session id"),
@@ -78,8 +82,11 @@ public class VoteAPI {
                     @Schema(description = "Whether to get dashboard info")
                     @DefaultValue("false")
                     Boolean getDashboard,
-            @HeaderParam(Auth.SESSION_HEADER) String session) {
-        return VoteAPIHelper.handleGetOneRow(loc, session, xpstrid, getDashboard);
+            @HeaderParam(Auth.SESSION_HEADER) String session,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        return VoteAPIHelper.handleGetOneRow(
+                loc, session, xpstrid, getDashboard, ifNoneMatch, acceptEncoding);
     }
 
     @GET
@@ -95,6 +102,9 @@ public class VoteAPI {
                                 @Content(
                                         mediaType = "application/json",
                                         schema = @Schema(implementation = RowResponse.class))),
+                @APIResponse(
+                        responseCode = "304",
+                        description = "Not modified since the ETag in If-None-Match"),
                 @APIResponse(
                         responseCode = "401",
                         description = "Authorization required, send a valid session id"),
@@ -128,7 +138,9 @@ public class VoteAPI {
                     @Schema(description = "Xpath string ID if page is auto")
                     @DefaultValue("")
                     String xpstrid,
-            @HeaderParam(Auth.SESSION_HEADER) String session) {
+            @HeaderParam(Auth.SESSION_HEADER) String session,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
 
         /*
          * The optional xpstrid query parameter enables requests like
@@ -138,7 +150,8 @@ public class VoteAPI {
          * can be used instead of
          *    https://cldr-smoke.unicode.org/cldr-apps/v#/zh_Hant/Alphabetic_Information/2703e9d07ab2ef3a
          */
-        return VoteAPIHelper.handleGetOnePage(loc, session, page, xpstrid);
+        return VoteAPIHelper.handleGetOnePage(
+                loc, session, page, xpstrid, ifNoneMatch, acceptEncoding);
     }
 
     /** Array of status items. Only stores one example entry per subtype. */
@@ -273,6 +286,12 @@ public class VoteAPI {
         public Page page;
         public String pageId;
 
+        @Schema(
+                description =
+                        "wall-clock milliseconds spent building this response, by phase (resolve, check, example, serialize),"
+                                + " and how many checkers and example generators the locale has (checkers, exampleGenerators)")
+        public Map<String, Long> timings;
+
         /**
          * If the request was for a single row only, include the hex xpath ID for that row here in
          * the response.
@@ -1,9 +1,12 @@
 package org.unicode.cldr.web.api;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.*;
 import java.util.logging.Logger;
 import javax.json.bind.spi.JsonbProvider;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
@@ -68,6 +71,10 @@ public class VoteAPIHelper {
         String page = null;
         public String xpstrid = null;
         Boolean getDashboard = false;
+        /** If-None-Match header from the request, or null */
+        String ifNoneMatch = null;
+        /** Accept-Encoding header from the request, or null */
+        String acceptEncoding = null;
 
         public ArgsForGet(String loc, String session) {
             this.localeId = UserRegistry.substituteUserWildcardLocale(loc, session);
@@ -76,10 +83,17 @@ public class VoteAPIHelper {
     }
 
     static Response handleGetOneRow(
-            String loc, String session, String xpstrid, Boolean getDashboard) {
+            String loc,
+            String session,
+            String xpstrid,
+            Boolean getDashboard,
+            String ifNoneMatch,
+            String acceptEncoding) {
         ArgsForGet args = new ArgsForGet(loc, session);
         args.xpstrid = xpstrid;
         args.getDashboard = getDashboard;
+        args.ifNoneMatch = ifNoneMatch;
+        args.acceptEncoding = acceptEncoding;
         return handleGetRows(args);
     }
 
@@ -122,8 +136,16 @@ public class VoteAPIHelper {
         }
     }
 
-    static Response handleGetOnePage(String loc, String session, String page, String xpstrid) {
+    static Response handleGetOnePage(
+            String loc,
+            String session,
+            String page,
+            String xpstrid,
+            String ifNoneMatch,
+            String acceptEncoding) {
         ArgsForGet args = new ArgsForGet(loc, session);
+        args.ifNoneMatch = ifNoneMatch;
+        args.acceptEncoding = acceptEncoding;
         if ("auto".equals(page) && xpstrid != null && !xpstrid.isEmpty()) {
             args.page = getPageFromXpathStringId(xpstrid);
         } else {
@@ -158,8 +180,21 @@ public class VoteAPIHelper {
             /** if true, hide emails. TODO: CLDR-16829 remove this parameter */
             final boolean redacted =
                     ((mySession.user == null) || (!mySession.user.getLevel().isGuest()));
-            final RowResponse r = getRowsResponse(args, sm, locale, mySession, redacted);
-            return Response.ok(r).build();
+            // Read the tag before building anything, so that a change during the build
+            // gives the next request a different tag.
+            final String tag = sm.getSTFactory().getRowCache().getTag(locale);
+            final EntityTag etag =
+                    args.getDashboard ? null : makeETag(args, mySession, redacted, tag);
+            if (etag != null && matchesETag(args.ifNoneMatch, etag)) {
+                return Response.notModified(etag).cacheControl(rowsCacheControl()).build();
+            }
+            final RowResponse r = getRowsResponse(args, sm, locale, mySession, redacted, tag);
+            final Response.ResponseBuilder rb =
+                    StreamingJson.ok(args.acceptEncoding, out -> writeRowResponse(out, r));
+            if (etag == null) {
+                return rb.build();
+            }
+            return rb.tag(etag).cacheControl(rowsCacheControl()).build();
         } catch (Throwable t) {
             t.printStackTrace();
             if (!(t instanceof SurveyException
@@ -172,6 +207,83 @@ public class VoteAPIHelper {
         }
     }
 
+    /**
+     * Stream a RowResponse one row at a time. The properties are in the JSON-B order, so the
+     * output is the same as serializing the whole RowResponse.
+     */
+    static void writeRowResponse(StreamingJson out, RowResponse r) throws IOException {
+        out.beginObject()
+                .property("canModify", r.canModify)
+                .property("dcParent", r.dcParent)
+                .property("displaySets", r.displaySets)
+                .property("issues", r.issues)
+                .property("loc", r.loc)
+                .property("localeDisplayName", r.localeDisplayName)
+                .array("notifications", r.notifications);
+        if (r.page != null) {
+            out.name("page")
+                    .beginObject()
+                    .property("nocontent", r.page.nocontent)
+                    .map("rows", r.page.rows)
+                    .endObject();
+        }
+        out.property("pageId", r.pageId)
+                .property("timings", r.timings)
+                .property("xpstrid", r.xpstrid)
+                .endObject();
+    }
+
+    /**
+     * @return Cache-Control for rows: they may be stored, but only by the browser, and must be
+     *     revalidated with the ETag
+     */
+    private static CacheControl rowsCacheControl() {
+        final CacheControl cc = new CacheControl();
+        cc.setPrivate(true);
+        cc.setNoCache(true);
+        return cc;
+    }
+
+    /**
+     * The ETag for a page or row: it changes whenever the RowCache tag changes, and depends on
+     * everything else that goes into the response, including its content encoding.
+     */
+    private static EntityTag makeETag(
+            ArgsForGet args, CookieSession mySession, boolean redacted, String tag) {
+        final User user = mySession.user;
+        return StreamingJson.makeETag(
+                tag
+                        + "-"
+                        + RowCache.userKey(user, redacted)
+                        + "-"
+                        + (user == null ? "" : user.getLevel().name())
+                        + "-"
+                        + args.page
+                        + "-"
+                        + args.xpstrid,
+                args.acceptEncoding);
+    }
+
+    /**
+     * @return true if the If-None-Match header matches this (strong or weak) ETag
+     */
+    private static boolean matchesETag(String ifNoneMatch, EntityTag etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        final String quoted = "\"" + etag.getValue() + "\"";
+        for (String t : ifNoneMatch.split(",")) {
+            t = t.trim();
+            if (t.startsWith("W/")) {
+                t = t.substring(2);
+            }
+            if (t.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static RowResponse getRowsResponse(
             ArgsForGet args,
             final SurveyMain sm,
@@ -179,6 +291,21 @@ public class VoteAPIHelper {
             final CookieSession mySession,
             final boolean redacted)
             throws SurveyException {
+        final String tag = sm.getSTFactory().getRowCache().getTag(locale);
+        return getRowsResponse(args, sm, locale, mySession, redacted, tag);
+    }
+
+    /**
+     * @param tag the RowCache tag, read before anything else
+     */
+    private static RowResponse getRowsResponse(
+            ArgsForGet args,
+            final SurveyMain sm,
+            final CLDRLocale locale,
+            final CookieSession mySession,
+            final boolean redacted,
+            final String tag)
+            throws SurveyException {
         final RowResponse r = new RowResponse();
         XPathMatcher matcher = null;
         PageId pageId = null;
@@ -196,6 +323,20 @@ public class VoteAPIHelper {
                         "Items not visible - page " + pageId + " section " + pageId.getSectionId());
             }
             r.pageId = pageId.name();
+            if (!args.getDashboard) {
+                // an unchanged page needs no DataPage
+                final RowResponse cached =
+                        sm.getSTFactory()
+                                .getRowCache()
+                                .getPage(
+                                        locale,
+                                        r.pageId,
+                                        RowCache.userKey(mySession.user, redacted),
+                                        tag);
+                if (cached != null) {
+                    return cached;
+                }
+            }
         } else if (args.xpstrid != null && args.page == null) {
             xp = sm.xpt.getByStringID(args.xpstrid);
             if (xp == null) {
@@ -226,17 +367,41 @@ public class VoteAPIHelper {
             r.localeDisplayName = locale.getDisplayName();
             r.page.nocontent = false;
             Collection<DataRow> dataRows = pageData.getAll();
-            r.page.rows = makePageRows(dataRows, redacted);
+            pageData.beginPhase(DataPage.BuildPhase.SERIALIZE);
+            try {
+                r.page.rows =
+                        makePageRows(
+                                dataRows,
+                                redacted,
+                                sm.getSTFactory().getRowCache(),
+                                locale,
+                                RowCache.userKey(mySession.user, redacted),
+                                tag);
+            } finally {
+                pageData.endPhase(DataPage.BuildPhase.SERIALIZE);
+            }
             if (args.page != null) {
                 r.displaySets = makeDisplaySets(dataRows);
+                DataPage.prebuildNextPageExamples(locale, pageId);
             }
         }
+        r.timings = pageData.getPhaseMillis();
         if (args.getDashboard) {
             r.notifications = getOnePathDash(XPathTable.xpathToBaseXpath(xp), locale, mySession);
         }
         if (DEBUG_SERIALIZATION) {
             debugSerialization(r, args);
         }
+        if (pageId != null && !args.getDashboard) {
+            sm.getSTFactory()
+                    .getRowCache()
+                    .putPage(
+                            locale,
+                            r.pageId,
+                            RowCache.userKey(mySession.user, redacted),
+                            tag,
+                            r);
+        }
         return r;
     }
 
@@ -258,15 +423,35 @@ public class VoteAPIHelper {
     }
 
     private static Map<String, RowResponse.Row> makePageRows(
-            Collection<DataRow> all, boolean redacted) {
+            Collection<DataRow> all,
+            boolean redacted,
+            RowCache rowCache,
+            CLDRLocale locale,
+            String userKey,
+            String tag) {
+        final List<DataRow> dataRows = new ArrayList<>(all);
+        final SurveyForum.LocaleForumStatus forumStatus =
+                SurveyForum.getLocaleForumStatus(locale); // once for the whole page
+        final List<RowResponse.Row> calculated =
+                DataPage.mapConcurrently(
+                        dataRows,
+                        r -> {
+                            RowResponse.Row row = rowCache.get(locale, r.getXpath(), userKey);
+                            if (row == null) {
+                                row = calculateRow(r, redacted, forumStatus);
+                                rowCache.put(locale, r.getXpath(), userKey, tag, row);
+                            }
+                            return row;
+                        });
         final Map<String, RowResponse.Row> rows = new HashMap<>();
-        for (final DataRow r : all) {
-            rows.put(r.fieldHash(), calculateRow(r, redacted));
+        for (int i = 0; i < dataRows.size(); i++) {
+            rows.put(dataRows.get(i).fieldHash(), calculated.get(i));
         }
         return rows;
     }
 
-    private static RowResponse.Row calculateRow(final DataRow r, boolean redacted) {
+    private static RowResponse.Row calculateRow(
+            final DataRow r, boolean redacted, SurveyForum.LocaleForumStatus forumStatus) {
         final RowResponse.Row row = new RowResponse.Row();
         final VoteResolver<String> resolver = r.getResolver();
         final String xpath = r.getXpath();
@@ -283,7 +468,7 @@ public class VoteAPIHelper {
         row.rawEnglish = r.getRawEnglish();
         row.extraAttributes = r.getNonDistinguishingAttributes();
         row.flagged = r.isFlagged();
-        row.forumStatus = new SurveyForum.PathForumStatus(r.getLocale(), xpath);
+        row.forumStatus = new SurveyForum.PathForumStatus(forumStatus, xpath);
         row.hasVoted = r.userHasVoted();
         row.helpHtml = r.getHelpHTML();
         row.inheritedLocale = r.getInheritedLocaleName();
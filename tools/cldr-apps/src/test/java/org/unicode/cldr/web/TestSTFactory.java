@@ -1,8 +1,12 @@
 package org.unicode.cldr.web;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -13,9 +17,13 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import net.jcip.annotations.NotThreadSafe;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,11 +42,15 @@ import org.unicode.cldr.util.CldrUtility;
 import org.unicode.cldr.util.FileReaders;
 import org.unicode.cldr.util.SpecialLocales;
 import org.unicode.cldr.util.StackTracker;
+import org.unicode.cldr.util.VoteResolver;
 import org.unicode.cldr.util.XMLFileReader;
 import org.unicode.cldr.web.BallotBox.InvalidXPathException;
 import org.unicode.cldr.web.BallotBox.VoteNotAcceptedException;
+import org.unicode.cldr.web.SurveyForum.LocaleForumStatus;
+import org.unicode.cldr.web.SurveyForum.PathForumStatus;
 import org.unicode.cldr.web.UserRegistry.LogoutException;
 import org.unicode.cldr.web.UserRegistry.User;
+import org.unicode.cldr.web.api.VoteAPI.RowResponse;
 
 @NotThreadSafe
 public class TestSTFactory {
@@ -458,6 +470,74 @@ public class TestSTFactory {
         }
     }
 
+    /**
+     * Time loading the votes of many users for a locale, where each vote looks up its user and
+     * voter info
+     */
+    @Test
+    public void TestVoteLoadPerf() throws SQLException, LogoutException {
+        final int USERS = 10;
+        final int PATHS = 300;
+        STFactory fac = getFactory();
+        // a locale that no other test votes on, since the votes are only withdrawn at the end
+        final CLDRLocale locale = CLDRLocale.getInstance("sv");
+        final User[] users = new User[USERS];
+        for (int i = 0; i < USERS; i++) {
+            final String email = "loadperf" + i + "@google.example.com";
+            users[i] = fac.sm.reg.get(email);
+            if (users[i] == null) {
+                users[i] =
+                        fac.sm.reg.createTestUser(
+                                "loadperf" + i,
+                                "google",
+                                locale.getBaseName(),
+                                VoteResolver.Level.vetter,
+                                email);
+            }
+            assertNotNull(users[i], email);
+        }
+        final Set<String> voted = new TreeSet<>();
+        try {
+            final CLDRFile mt = fac.make(locale, false);
+            final BallotBox<User> box = fac.ballotBoxForLocale(locale);
+            for (String path : mt) {
+                if (voted.size() >= PATHS) {
+                    break;
+                }
+                final String value = mt.getStringValue(path);
+                try {
+                    for (User u : users) {
+                        box.voteForValue(u, path, value);
+                    }
+                    voted.add(path);
+                } catch (InvalidXPathException | VoteNotAcceptedException e) {
+                    // not votable; try another path
+                }
+            }
+            assertEquals(PATHS, voted.size(), "paths voted");
+
+            fac = resetFactory();
+            final ElapsedTimer et =
+                    new ElapsedTimer("Load " + USERS * PATHS + " votes for " + locale);
+            final BallotBox<User> reloaded = fac.ballotBoxForLocale(locale);
+            fac.make(locale, true);
+            System.err.println(et.toString());
+            for (String path : voted) {
+                for (User u : users) {
+                    assertTrue(reloaded.userDidVote(u, path), u + " voted for " + path);
+                }
+            }
+        } finally {
+            // withdraw the votes, so that no other test sees them
+            final BallotBox<User> reloaded = fac.ballotBoxForLocale(locale);
+            for (String path : voted) {
+                for (User u : users) {
+                    reloaded.voteForValue(u, path, null);
+                }
+            }
+        }
+    }
+
     @Test
     public void TestVettingDataDriven() throws SQLException, IOException {
         runDataDrivenTest(TestSTFactory.class.getSimpleName()); // TestSTFactory.xml
@@ -628,6 +708,114 @@ public class TestSTFactory {
         }
     }
 
+    @Test
+    public void TestRowCache() throws SQLException {
+        if (TestAll.skipIfNoDb()) return;
+        final RowCache rowCache = getFactory().getRowCache();
+        final CLDRLocale locale = CLDRLocale.getInstance("ast");
+        final String path1 = "//ldml/localeDisplayNames/languages/language[@type=\"fr\"]";
+        final String path2 = "//ldml/localeDisplayNames/languages/language[@type=\"de\"]";
+        final String tag = rowCache.getTag(locale);
+        for (String userKey : new String[] {"1", "2r"}) {
+            rowCache.put(locale, path1, userKey, tag, new RowResponse.Row());
+            rowCache.put(locale, path2, userKey, tag, new RowResponse.Row());
+        }
+        final RowResponse page = new RowResponse();
+        rowCache.putPage(locale, "Languages_A_D", "1", tag, page);
+        assertNotNull(rowCache.get(locale, path1, "2r"));
+        assertSame(page, rowCache.getPage(locale, "Languages_A_D", "1", tag));
+        assertNull(rowCache.getPage(locale, "Languages_A_D", "2r", tag), "other user");
+
+        // a vote drops the path for all users, and the locale's pages
+        rowCache.invalidatePath(locale, path1);
+        final String newTag = rowCache.getTag(locale);
+        assertNotEquals(tag, newTag);
+        assertNull(rowCache.get(locale, path1, "1"));
+        assertNull(rowCache.get(locale, path1, "2r"));
+        assertNotNull(rowCache.get(locale, path2, "2r"));
+        assertNull(rowCache.getPage(locale, "Languages_A_D", "1", newTag));
+
+        // a stale tag doesn't cache
+        rowCache.put(locale, path1, "1", tag, new RowResponse.Row());
+        assertNull(rowCache.get(locale, path1, "1"));
+
+        // a user change drops everything
+        RowCache.usersModified();
+        assertNull(rowCache.get(locale, path2, "2r"));
+    }
+
+    /** The post counts which decide whether a permanent vote is allowed follow the posts */
+    @Test
+    public void TestForumPostCounts() throws SQLException, LogoutException, SurveyException {
+        if (TestAll.skipIfNoDb()) return;
+        final SurveyForum fora = getForum();
+        final CLDRLocale locale = CLDRLocale.getInstance("ast");
+        final String xpath = "//ldml/localeDisplayNames/languages/language[@type=\"sv\"]";
+        final int xpathId = getFactory().sm.xpt.getByXpath(xpath);
+        final User user = getMyUser();
+        final CookieSession mySession = CookieSession.getTestSession(user);
+
+        final int before = fora.postCountFor(locale, xpathId);
+        final LocaleForumStatus lfs = SurveyForum.getLocaleForumStatus(locale);
+        assertSame(lfs, SurveyForum.getLocaleForumStatus(locale), "status is cached");
+
+        // a new thread
+        final SurveyForum.PostInfo post =
+                fora.new PostInfo(locale, SurveyForum.PostType.DISCUSS.toName(), "Swedish?");
+        post.setSubj("sv");
+        post.setUser(user);
+        post.setSendEmail(false);
+        post.setPathString(XPathTable.getStringIDString(xpath));
+        final int root = fora.doPost(mySession, post);
+        assertTrue(root > 0, "post id");
+        assertNotSame(lfs, SurveyForum.getLocaleForumStatus(locale), "status reloaded after post");
+        assertEquals(before + 1, fora.postCountFor(locale, xpathId));
+        assertEquals(
+                before + 1, fora.postCountsFor(locale, List.of(xpathId)).get(xpathId).intValue());
+        assertTrue(new PathForumStatus(locale, xpath).hasOpenPosts);
+
+        // a reply
+        final SurveyForum.PostInfo reply =
+                fora.new PostInfo(locale, SurveyForum.PostType.DISCUSS.toName(), "Yes.");
+        reply.setSubj("sv");
+        reply.setUser(user);
+        reply.setSendEmail(false);
+        reply.setReplyTo(root);
+        reply.setRoot(root);
+        assertTrue(fora.doPost(mySession, reply) > 0, "reply id");
+        assertEquals(before + 2, fora.postCountFor(locale, xpathId));
+
+        // closing the thread keeps its posts, but reloads the status
+        final LocaleForumStatus lfs2 = SurveyForum.getLocaleForumStatus(locale);
+        final Connection conn = DBUtils.getInstance().getDBConnection();
+        try {
+            assertEquals(2, SurveyForum.closeThreads(conn, new ArrayList<>(List.of(root))));
+            conn.commit();
+        } finally {
+            DBUtils.close(conn);
+        }
+        assertNotSame(
+                lfs2, SurveyForum.getLocaleForumStatus(locale), "status reloaded after close");
+        assertEquals(before + 2, fora.postCountFor(locale, xpathId));
+        final PathForumStatus pfs = new PathForumStatus(locale, xpath);
+        assertTrue(pfs.hasPosts);
+        if (before == 0) {
+            assertFalse(pfs.hasOpenPosts, "only post was closed");
+        }
+    }
+
+    /** The test factory's SurveyMain has no forum until one is needed */
+    private static synchronized SurveyForum getForum() throws SQLException {
+        final SurveyMain sm = getFactory().sm;
+        if (sm.fora == null) {
+            if (sm.dbUtils == null) {
+                sm.dbUtils = DBUtils.getInstance();
+            }
+            sm.fora = SurveyForum.createTable(sm.dbUtils.getDBConnection(), sm);
+        }
+        return sm.fora;
+    }
+
     private void verifyReadOnly(CLDRFile f) {
         String loc = f.getLocaleID();
         try {
@@ -0,0 +1,102 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.web.SurveyInstrumentation.EndpointReport;
+import org.unicode.cldr.web.SurveyInstrumentation.Report;
+
+public class TestSurveyInstrumentation {
+
+    /** A connection whose statements return 1 from executeUpdate, and do nothing else */
+    private static Connection makeFakeConnection() {
+        final PreparedStatement ps =
+                (PreparedStatement)
+                        Proxy.newProxyInstance(
+                                TestSurveyInstrumentation.class.getClassLoader(),
+                                new Class<?>[] {PreparedStatement.class},
+                                (p, m, a) -> m.getName().equals("executeUpdate") ? 1 : null);
+        return (Connection)
+                Proxy.newProxyInstance(
+                        TestSurveyInstrumentation.class.getClassLoader(),
+                        new Class<?>[] {Connection.class},
+                        (p, m, a) -> m.getName().equals("prepareStatement") ? ps : null);
+    }
+
+    @Test
+    public void TestStatementsPerRequest() throws SQLException {
+        final Connection conn = SurveyInstrumentation.instrument(makeFakeConnection());
+        final long before = SurveyInstrumentation.getReport().statements.count;
+
+        SurveyInstrumentation.beginRequest();
+        final PreparedStatement ps = conn.prepareStatement("UPDATE t SET x=?");
+        ps.setInt(1, 2); // not a statement execution
+        assertEquals(1, ps.executeUpdate());
+        assertEquals(1, ps.executeUpdate());
+        SurveyInstrumentation.endRequest("Test.update", 5_000_000L); // 5 ms
+
+        // not in a request
+        assertEquals(1, conn.prepareStatement("UPDATE t SET y=1").executeUpdate());
+
+        final Report r = SurveyInstrumentation.getReport();
+        assertEquals(before + 3, r.statements.count);
+        final EndpointReport e = r.endpoints.get("Test.update");
+        assertEquals(1, e.latency.count);
+        assertEquals(2.0, e.statementsPerRequest);
+        assertEquals(1, (long) e.latency.histogram.get("<=5ms"));
+        assertEquals(0, (long) e.latency.histogram.get("<=2ms"));
+        assertEquals(5.0, e.latency.maxMillis);
+    }
+
+    /** A request that never reaches endRequest doesn't count toward the next one */
+    @Test
+    public void TestClearRequest() throws SQLException {
+        final Connection conn = SurveyInstrumentation.instrument(makeFakeConnection());
+
+        SurveyInstrumentation.beginRequest();
+        assertEquals(1, conn.prepareStatement("UPDATE t SET x=1").executeUpdate());
+        // failed, without endRequest
+        SurveyInstrumentation.clearRequest();
+        assertEquals(1, conn.prepareStatement("UPDATE t SET x=2").executeUpdate());
+
+        SurveyInstrumentation.beginRequest();
+        SurveyInstrumentation.endRequest("Test.cleared", 1_000_000L);
+        final EndpointReport e = SurveyInstrumentation.getReport().endpoints.get("Test.cleared");
+        assertEquals(1, e.latency.count);
+        assertEquals(0.0, e.statementsPerRequest);
+    }
+
+    @Test
+    public void TestNotWrappedWhenDisabled() {
+        final Connection conn = makeFakeConnection();
+        if (SurveyInstrumentation.isEnabled()) {
+            assertNotSame(conn, SurveyInstrumentation.wrap(conn));
+        } else {
+            assertSame(conn, SurveyInstrumentation.wrap(conn));
+        }
+    }
+
+    @Test
+    public void TestCacheReport() {
+        final Cache<String, String> cache = CacheBuilder.newBuilder().recordStats().build();
+        SurveyInstrumentation.registerCache("Test.cache", cache::stats);
+        cache.getIfPresent("a"); // miss
+        cache.put("a", "b");
+        cache.getIfPresent("a"); // hit
+        cache.getIfPresent("a"); // hit
+        final SurveyInstrumentation.CacheReport c =
+                SurveyInstrumentation.getReport().caches.get("Test.cache");
+        assertEquals(2, c.hits);
+        assertEquals(1, c.misses);
+        assertTrue(c.hitRate > 0.6 && c.hitRate < 0.7, "hit rate " + c.hitRate);
+    }
+}
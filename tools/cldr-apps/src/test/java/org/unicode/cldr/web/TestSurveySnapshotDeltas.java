@@ -0,0 +1,77 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TestSurveySnapshotDeltas {
+
+    /** Summary-like json, with one escaped line per locale */
+    private static String makeJson(List<String> rows, String id) {
+        return "{\"output\":\"" + String.join("\\n", rows) + "\",\"snapshotId\":\"" + id + "\"}";
+    }
+
+    private static List<String> makeRows() {
+        final List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add("<tr><th>locale" + i + "</th><td>" + (i * 7 % 100) + "</td></tr>");
+        }
+        return rows;
+    }
+
+    @Test
+    public void TestDiff() {
+        final List<String> rows = makeRows();
+        final String base = makeJson(rows, "a");
+        rows.set(10, "<tr><th>changed</th></tr>");
+        rows.remove(500);
+        rows.add(700, "<tr><th>inserted</th></tr>");
+        rows.add("<tr><th>last</th></tr>");
+        final String json = makeJson(rows, "b");
+        final String delta = SurveySnapshotDeltas.diff(base, json);
+        assertTrue(delta.length() < 500, "small delta: " + delta);
+        assertEquals(json, SurveySnapshotDeltas.applyDelta(base, delta));
+
+        for (String s : new String[] {"", "\\n", "x\\n\\ny", base}) {
+            assertEquals(
+                    s, SurveySnapshotDeltas.applyDelta(base, SurveySnapshotDeltas.diff(base, s)));
+            assertEquals(
+                    base, SurveySnapshotDeltas.applyDelta(s, SurveySnapshotDeltas.diff(s, base)));
+        }
+    }
+
+    @Test
+    public void TestPutGet() {
+        final SurveySnapshotMap store = new SurveySnapshotMap();
+        final SurveySnapshotDeltas snap = new SurveySnapshotDeltas(store);
+        final List<String> rows = makeRows();
+        final String a = makeJson(rows, "a");
+        rows.set(3, "<tr><th>changed</th></tr>");
+        final String b = makeJson(rows, "b");
+        snap.put("a", a);
+        snap.put("b", b);
+        assertTrue(store.get("a").startsWith("gzip:"), "base");
+        assertTrue(store.get("b").startsWith("delta:a\n"), "delta");
+        assertTrue(store.get("b").length() * 10 < b.length(), "delta is small");
+        assertEquals(a, snap.get("a"));
+        assertEquals(b, snap.get("b"));
+
+        // after a restart, the base is read from the store
+        final SurveySnapshotDeltas restarted = new SurveySnapshotDeltas(store);
+        assertEquals(b, restarted.get("b"));
+
+        // unrelated json is stored as a new base
+        snap.put("c", "{\"message\":\"different\"}");
+        assertTrue(store.get("c").startsWith("gzip:"), "new base");
+        assertEquals("{\"message\":\"different\"}", snap.get("c"));
+
+        // snapshots stored before deltas were used
+        store.put("old", "{\"output\":\"plain\"}");
+        assertEquals("{\"output\":\"plain\"}", snap.get("old"));
+        assertNull(snap.get("missing"));
+    }
+}
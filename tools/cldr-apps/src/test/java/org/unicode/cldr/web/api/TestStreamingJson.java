@@ -0,0 +1,174 @@
+package org.unicode.cldr.web.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.test.CheckCLDR;
+import org.unicode.cldr.util.VoteResolver;
+import org.unicode.cldr.util.VoteType;
+import org.unicode.cldr.util.VoterProgress;
+import org.unicode.cldr.web.Dashboard.ReviewNotification;
+import org.unicode.cldr.web.Dashboard.ReviewOutput;
+import org.unicode.cldr.web.api.VoteAPI.RowResponse;
+
+public class TestStreamingJson {
+    private static final Jsonb jsonb = JsonbBuilder.create();
+
+    private static String stream(boolean gzip, StreamingJson.Body body) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StreamingJson.write(bytes, gzip, body);
+        if (!gzip) {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+        try (GZIPInputStream in =
+                new GZIPInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static RowResponse.Row makeRow(int i) {
+        final RowResponse.Row row = new RowResponse.Row();
+        row.code = "code" + i;
+        row.confirmStatus = VoteResolver.Status.provisional;
+        row.coverageValue = 100;
+        row.displayName = "name \"" + i + "\" ñ";
+        row.extraAttributes = new TreeMap<>(Map.of("alt", "variant"));
+        row.hasVoted = (i % 2 == 0);
+        row.statusAction = CheckCLDR.StatusAction.ALLOW;
+        row.winningValue = "value" + i;
+        row.xpathId = i;
+        row.xpstrid = "abc" + i;
+
+        final RowResponse.Row.Candidate c = new RowResponse.Row.Candidate();
+        c.displayValue = "value" + i;
+        c.isBaselineValue = true;
+        c.value = "value" + i;
+        c.valueHash = "dmFsdWU";
+        row.items = new TreeMap<>(Map.of(c.valueHash, c));
+
+        final RowResponse.Row.VotingResults<String> vr = new RowResponse.Row.VotingResults<>();
+        vr.requiredVotes = 4;
+        vr.value_vote = new Object[] {"value" + i, 8L};
+        row.votingResults = vr;
+        return row;
+    }
+
+    @Test
+    public void TestRowResponse() throws IOException {
+        final RowResponse r = new RowResponse();
+        r.canModify = true;
+        r.loc = "fr";
+        r.localeDisplayName = "French";
+        r.notifications =
+                new ReviewNotification[] {
+                    new ReviewNotification("Error"), new ReviewNotification("Warning")
+                };
+        r.page = new RowResponse.Page();
+        r.page.rows = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            final RowResponse.Row row = makeRow(i);
+            r.page.rows.put(row.xpstrid, row);
+        }
+        r.pageId = "Alphabetic_Information";
+        r.timings = new TreeMap<>(Map.of("resolve", 3L, "check", 5L));
+
+        final String expected = jsonb.toJson(r);
+        assertEquals(expected, stream(false, out -> VoteAPIHelper.writeRowResponse(out, r)));
+        assertEquals(expected, stream(true, out -> VoteAPIHelper.writeRowResponse(out, r)));
+
+        // a single row, with no page
+        final RowResponse one = new RowResponse();
+        one.loc = "fr";
+        one.setOneRowPath("abc1");
+        assertEquals(
+                jsonb.toJson(one), stream(false, out -> VoteAPIHelper.writeRowResponse(out, one)));
+    }
+
+    @Test
+    public void TestDashboard() throws IOException {
+        final ReviewOutput ret = new ReviewOutput();
+        ret.coverageLevel = "MODERN";
+        for (String category : List.of("Error", "Missing", "English_Changed")) {
+            ret.add(category);
+        }
+        ret.voterProgress = new VoterProgress();
+        ret.voterProgress.incrementVotablePathCount();
+        ret.voterProgress.incrementVotablePathCount();
+        ret.voterProgress.incrementVotedPathCount(VoteType.DIRECT);
+
+        final String expected = jsonb.toJson(ret);
+        assertEquals(expected, stream(false, out -> Summary.writeDashboard(out, ret)));
+        assertEquals(expected, stream(true, out -> Summary.writeDashboard(out, ret)));
+
+        // empty
+        final ReviewOutput empty = new ReviewOutput();
+        assertEquals(jsonb.toJson(empty), stream(false, out -> Summary.writeDashboard(out, empty)));
+    }
+
+    @Test
+    public void TestNesting() throws IOException {
+        final List<Object> list = new ArrayList<>();
+        list.add(1);
+        list.add(null);
+        list.add("two");
+        assertEquals(
+                "{\"a\":[1,null,\"two\"],\"m\":{\"x\":{}},\"n\":[]}",
+                stream(
+                        false,
+                        out ->
+                                out.beginObject()
+                                        .array("a", list)
+                                        .property("skipped", null)
+                                        .map("m", Map.of("x", Map.of()))
+                                        .array("n", new Object[0])
+                                        .endObject()));
+    }
+
+    @Test
+    public void TestAcceptsGzip() {
+        assertFalse(StreamingJson.acceptsGzip(null));
+        assertFalse(StreamingJson.acceptsGzip(""));
+        assertFalse(StreamingJson.acceptsGzip("identity"));
+        assertFalse(StreamingJson.acceptsGzip("deflate, br"));
+        assertTrue(StreamingJson.acceptsGzip("gzip"));
+        assertTrue(StreamingJson.acceptsGzip("GZIP"));
+        assertTrue(StreamingJson.acceptsGzip("gzip, deflate, br"));
+        assertTrue(StreamingJson.acceptsGzip("deflate;q=0.5, gzip;q=1.0"));
+        assertTrue(StreamingJson.acceptsGzip("gzip;q=0.5"));
+        assertTrue(StreamingJson.acceptsGzip("gzip;q=0.001"));
+        assertFalse(StreamingJson.acceptsGzip("gzip;q=0"));
+        assertFalse(StreamingJson.acceptsGzip("gzip; q=0.0"));
+        assertFalse(StreamingJson.acceptsGzip("gzip;Q=0.000"));
+        assertFalse(StreamingJson.acceptsGzip("br, gzip;q=0"));
+    }
+
+    /** gzipped and identity bodies are different representations, with different strong ETags */
+    @Test
+    public void TestETag() {
+        assertEquals("x", StreamingJson.makeETag("x", null).getValue());
+        assertEquals("x", StreamingJson.makeETag("x", "identity").getValue());
+        assertFalse(StreamingJson.makeETag("x", null).isWeak());
+        if (StreamingJson.willGzip("gzip")) {
+            assertEquals("x-gzip", StreamingJson.makeETag("x", "gzip, deflate").getValue());
+            assertNotEquals(
+                    StreamingJson.makeETag("x", null), StreamingJson.makeETag("x", "gzip"));
+        } else {
+            assertEquals("x", StreamingJson.makeETag("x", "gzip").getValue());
+        }
+    }
+}
@@ -2,8 +2,14 @@ package org.unicode.cldr.test;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.PathStarrer;
 
 /**
@@ -28,8 +34,10 @@ import org.unicode.cldr.util.PathStarrer;
  * <p>This cache is internal to each ExampleGenerator. Compare TestCache.exampleGeneratorCache,
  * which is at a higher level, caching entire ExampleGenerator objects, one for each locale.
  *
- * <p>Unlike TestCache.exampleGeneratorCache, this cache doesn't get cleared to conserve memory,
- * only to adapt to changed winning values.
+ * <p>The cache is sharded by starred path, which is also the unit of invalidation. Its size is
+ * accounted for in estimated chars; when it grows beyond CLDR_EXAMPLE_CACHE_MAX_CHARS, the least
+ * recently used shards are evicted. Otherwise shards are only cleared to adapt to changed winning
+ * values.
  */
 class ExampleCache {
     /**
@@ -52,10 +60,10 @@ class ExampleCache {
         private String starredPath = null;
 
         /**
-         * The cache maps each starredPath to a pathMap, which in turn maps each starless path to a
-         * valueMap.
+         * The cache maps each starredPath to a Shard, whose pathMap in turn maps each starless path
+         * to a valueMap.
          */
-        private Map<String, Map<String, String>> pathMap = null;
+        private Shard shard = null;
 
         /** Finally the valueMap maps the value to the example html. */
         private Map<String, String> valueMap = null;
@@ -78,28 +86,46 @@ class ExampleCache {
                 return null;
             }
             String result = null;
-            starredPath = pathStarrer.set(xpath);
-            pathMap = cache.get(starredPath);
-            if (pathMap != null) {
-                valueMap = pathMap.get(xpath);
+            starredPath = getStarredPath(xpath);
+            shard = cache.get(starredPath);
+            if (shard != null) {
+                shard.lastUsed = clock.incrementAndGet();
+                valueMap = shard.pathMap.get(xpath);
                 if (valueMap != null) {
                     result = valueMap.get(value);
                 }
             }
+            if (result == null) {
+                misses.increment();
+            } else {
+                hits.increment();
+            }
             return NONE.equals(result) ? null : result;
         }
 
         void putExample(String result) {
             if (cachingIsEnabled) {
-                if (pathMap == null) {
-                    pathMap = new ConcurrentHashMap<>();
-                    cache.put(starredPath, pathMap);
+                if (shard == null) {
+                    shard = cache.computeIfAbsent(starredPath, k -> new Shard());
+                    shard.lastUsed = clock.incrementAndGet();
                 }
                 if (valueMap == null) {
-                    valueMap = new ConcurrentHashMap<>();
-                    pathMap.put(xpath, valueMap);
+                    valueMap = shard.pathMap.computeIfAbsent(xpath, k -> new ConcurrentHashMap<>());
+                }
+                final String stored = (result == null) ? NONE : result;
+                final String old = valueMap.put(value, stored);
+                final long delta =
+                        (old == null)
+                                ? ENTRY_OVERHEAD_CHARS + value.length() + stored.length()
+                                : stored.length() - old.length();
+                shard.chars.addAndGet(delta);
+                if (cache.get(starredPath) == shard) {
+                    if (totalChars.addAndGet(delta) > maxChars) {
+                        evict();
+                    }
+                } else {
+                    shard.chars.addAndGet(-delta); // the shard was removed meanwhile
                 }
-                valueMap.put(value, (result == null) ? NONE : result);
             }
         }
     }
@@ -124,8 +150,38 @@ class ExampleCache {
      */
     private static final String NONE = "\uFFFF";
 
-    /** The nested cache mapping is: starredPath → (starlessPath → (value → html)). */
-    private final Map<String, Map<String, Map<String, String>>> cache = new ConcurrentHashMap<>();
+    /** Rough size of the map entries for one cached example, in chars */
+    private static final int ENTRY_OVERHEAD_CHARS = 48;
+
+    /** When evicting, evict until the cache is at most this fraction of maxChars */
+    private static final double EVICT_TO_FRACTION = 0.75;
+
+    /** One shard of the cache: the examples for all the paths with one starred path */
+    private static final class Shard {
+        /** starlessPath → (value → html) */
+        final Map<String, Map<String, String>> pathMap = new ConcurrentHashMap<>();
+        /** Estimated size of the keys and values in this shard */
+        final AtomicLong chars = new AtomicLong();
+        /** Value of the clock when this shard was last used */
+        volatile long lastUsed;
+    }
+
+    /** The nested cache mapping is: starredPath → Shard (starlessPath → (value → html)). */
+    private final Map<String, Shard> cache = new ConcurrentHashMap<>();
+
+    /** Estimated size of all shards, in chars */
+    private final AtomicLong totalChars = new AtomicLong();
+
+    /** Ticks once for each use of a shard, for finding the least recently used ones */
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /** Max estimated size of this cache, in chars. Configured by CLDR_EXAMPLE_CACHE_MAX_CHARS */
+    private long maxChars =
+            CLDRConfig.getInstance().getProperty("CLDR_EXAMPLE_CACHE_MAX_CHARS", 4_000_000);
 
     /**
      * A clearable cache is any object that supports being cleared when a path changes. An example
@@ -161,6 +217,13 @@ class ExampleCache {
      */
     private final PathStarrer pathStarrer = new PathStarrer().setSubstitutionPattern("*");
 
+    /** PathStarrer is not thread safe */
+    private String getStarredPath(String xpath) {
+        synchronized (pathStarrer) {
+            return pathStarrer.set(xpath);
+        }
+    }
+
     /**
      * For testing, caching can be disabled for some ExampleCaches while still enabled for others.
      */
@@ -170,6 +233,73 @@ class ExampleCache {
         cachingIsEnabled = enabled;
     }
 
+    /** Set the max estimated size in chars, evicting shards if needed */
+    void setMaxChars(long maxChars) {
+        this.maxChars = maxChars;
+        if (totalChars.get() > maxChars) {
+            evict();
+        }
+    }
+
+    /**
+     * @return the estimated size of the cached examples, in chars
+     */
+    long getEstimatedChars() {
+        return totalChars.get();
+    }
+
+    /**
+     * Evict the least recently used shards, until the cache is below EVICT_TO_FRACTION of
+     * maxChars. Evicting a little more than needed means this won't run on every put.
+     */
+    private synchronized void evict() {
+        final long target = (long) (maxChars * EVICT_TO_FRACTION);
+        if (totalChars.get() <= maxChars) {
+            return; // another thread already evicted
+        }
+        final List<Map.Entry<String, Shard>> shards = new ArrayList<>(cache.entrySet());
+        shards.sort(Comparator.comparingLong(e -> e.getValue().lastUsed));
+        for (Map.Entry<String, Shard> e : shards) {
+            if (totalChars.get() <= target) {
+                break;
+            }
+            if (removeShard(e.getKey())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove the shard for this starred path, and account for its size
+     *
+     * @return true if there was such a shard
+     */
+    private boolean removeShard(String starredPath) {
+        final Shard shard = cache.remove(starredPath);
+        if (shard == null) {
+            return false;
+        }
+        totalChars.addAndGet(-shard.chars.get());
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ExampleCache{shards="
+                + cache.size()
+                + ", chars="
+                + totalChars.get()
+                + "/"
+                + maxChars
+                + ", hits="
+                + hits.sum()
+                + ", misses="
+                + misses.sum()
+                + ", evictions="
+                + evictions.sum()
+                + "}";
+    }
+
     /**
      * Clear the cached examples for any paths whose examples might depend on the winning value of
      * the given path, since the winning value of the given path has changed.
@@ -184,9 +314,9 @@ class ExampleCache {
      */
     void update(String xpath) {
         if (AVOID_CLEARING_CACHE) {
-            String starredA = pathStarrer.set(xpath);
+            String starredA = getStarredPath(xpath);
             for (String starredB : ExampleDependencies.dependencies.get(starredA)) {
-                cache.remove(starredB);
+                removeShard(starredB);
             }
             // TODO clean up the synchronization
             synchronized (registeredCache) {
@@ -195,7 +325,9 @@ class ExampleCache {
                 }
             }
         } else {
-            cache.clear();
+            for (String starredPath : new ArrayList<>(cache.keySet())) {
+                removeShard(starredPath);
+            }
         }
     }
 }
@@ -231,6 +231,28 @@ public class ExampleGenerator {
         icuServiceBuilder.setCachingEnabled(enabled);
     }
 
+    /**
+     * Set the max estimated size of the example cache, in chars; least recently used examples are
+     * evicted beyond that. The default is CLDR_EXAMPLE_CACHE_MAX_CHARS.
+     */
+    public void setExampleCacheMaxChars(long maxChars) {
+        exCache.setMaxChars(maxChars);
+    }
+
+    /**
+     * @return the estimated size of the example cache, in chars
+     */
+    public long getExampleCacheChars() {
+        return exCache.getEstimatedChars();
+    }
+
+    /**
+     * @return the size, hit, and eviction counts of the example cache, for logging
+     */
+    public String getExampleCacheStatus() {
+        return exCache.toString();
+    }
+
     /**
      * verboseErrors affects not only the verboseness of error reporting, but also, for example,
      * whether some unit tests pass or fail. The function setVerboseErrors can be used to modify it.
@@ -249,7 +271,7 @@ public class ExampleGenerator {
 
     private final BestMinimalPairSamples bestMinimalPairSamples;
 
-    private final ExampleCache exCache = new ExampleCache();
+    private final ExampleCache exCache;
 
     private final ICUServiceBuilder icuServiceBuilder = new ICUServiceBuilder();
 
@@ -340,9 +362,7 @@ public class ExampleGenerator {
      */
     public void updateCache(String xpath) {
         exCache.update(xpath);
-        if (ICUServiceBuilder.ISB_CAN_CLEAR_CACHE) {
-            icuServiceBuilder.clearCache();
-        }
+        icuServiceBuilder.clearCache(xpath);
     }
 
     /**
@@ -396,6 +416,19 @@ public class ExampleGenerator {
      * @param englishFile
      */
     public ExampleGenerator(CLDRFile resolvedCldrFile, CLDRFile englishFile) {
+        this(resolvedCldrFile, englishFile, new ExampleCache());
+    }
+
+    /**
+     * Create an Example Generator that shares its example cache with others for the same files,
+     * so that they can be used on different threads without building the same examples twice.
+     * Each of them must still be used by one thread at a time.
+     *
+     * @param resolvedCldrFile
+     * @param englishFile
+     * @param exCache the cache, which is thread safe
+     */
+    ExampleGenerator(CLDRFile resolvedCldrFile, CLDRFile englishFile, ExampleCache exCache) {
         if (!resolvedCldrFile.isResolved()) {
             throw new IllegalArgumentException("CLDRFile must be resolved");
         }
@@ -403,6 +436,8 @@ public class ExampleGenerator {
             throw new IllegalArgumentException("English CLDRFile must be resolved");
         }
         cldrFile = resolvedCldrFile;
+        this.exCache = exCache;
+        personNamesCache = exCache.registerCache(new PersonNamesCache(), PERSON_NAMES_CACHE_PATHS);
         final String localeId = cldrFile.getLocaleID();
         subdivisionIdToName = EmojiSubdivisionNames.getSubdivisionIdToName(localeId);
         pluralInfo = supplementalDataInfo.getPlurals(PluralType.cardinal, localeId);
@@ -444,6 +479,30 @@ public class ExampleGenerator {
         return getExampleHtmlExtended(xpath, value, false /* nonTrivial */);
     }
 
+    /**
+     * Build and cache the examples for the winning values of the given paths, such as the paths of
+     * a page that is likely to be requested soon.
+     *
+     * <p>This synchronizes on this ExampleGenerator for one path at a time, so that callers which
+     * synchronize on it for getExampleHtml are not kept waiting for the whole batch.
+     *
+     * @param xpaths the paths
+     * @return the number of paths with values
+     */
+    public int prebuildExamples(Iterable<String> xpaths) {
+        int count = 0;
+        for (String xpath : xpaths) {
+            synchronized (this) {
+                final String value = cldrFile.getStringValue(xpath);
+                if (value != null) {
+                    getExampleHtml(xpath, value);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * Same as getExampleHtml but return null if the result would simply be the given value plus
      * some markup
@@ -702,15 +761,16 @@ public class ExampleGenerator {
         }
     }
 
-    /** Register the cache, so that it gets cleared when any of the paths change */
-    PersonNamesCache personNamesCache =
-            exCache.registerCache(
-                    new PersonNamesCache(),
-                    "//ldml/personNames/sampleName[@item=\"*\"]/nameField[@type=\"*\"]",
-                    "//ldml/personNames/initialPattern[@type=\"*\"]",
-                    "//ldml/personNames/foreignSpaceReplacement",
-                    "//ldml/personNames/nativeSpaceReplacement",
-                    "//ldml/personNames/personName[@order=\"*\"][@length=\"*\"][@usage=\"*\"][@formality=\"*\"]/namePattern");
+    /** Registered with exCache in the constructor, so that it gets cleared when paths change */
+    final PersonNamesCache personNamesCache;
+
+    private static final String[] PERSON_NAMES_CACHE_PATHS = {
+        "//ldml/personNames/sampleName[@item=\"*\"]/nameField[@type=\"*\"]",
+        "//ldml/personNames/initialPattern[@type=\"*\"]",
+        "//ldml/personNames/foreignSpaceReplacement",
+        "//ldml/personNames/nativeSpaceReplacement",
+        "//ldml/personNames/personName[@order=\"*\"][@length=\"*\"][@usage=\"*\"][@formality=\"*\"]/namePattern"
+    };
 
     private static final Function<String, String> BACKGROUND_TRANSFORM =
             x -> backgroundStartSymbol + x + backgroundEndSymbol;
@@ -845,9 +905,10 @@ public class ExampleGenerator {
             final CLDRFile cldrFile2,
             List<String> examples,
             Output<Boolean> haveHeaderLine) {
-        PersonNameFormatter formatter2 = new PersonNameFormatter(cldrFile2);
+        // for frozen files (English, uk, ja), these are only built once
+        PersonNameFormatter formatter2 = PersonNameFormatter.getInstance(cldrFile2);
         Map<PersonNameFormatter.SampleType, SimpleNameObject> sampleNames2 =
-                PersonNameFormatter.loadSampleNames(cldrFile2);
+                PersonNameFormatter.getSampleNames(cldrFile2);
         SimpleNameObject sampleName =
                 getBestAvailable(
                         sampleNames2,
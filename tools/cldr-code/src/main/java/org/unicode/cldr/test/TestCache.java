@@ -3,12 +3,17 @@ package org.unicode.cldr.test;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
@@ -32,24 +37,50 @@ public class TestCache implements XMLSource.Listener {
     private static final Logger logger = Logger.getLogger(TestCache.class.getSimpleName());
 
     public class TestResultBundle {
-        private final CheckCLDR cc = CheckCLDR.getCheckAll(getFactory(), nameMatcher);
         final CLDRFile file;
         private final CheckCLDR.Options options;
         private final ConcurrentHashMap<Pair<String, String>, List<CheckStatus>> pathCache;
         protected final List<CheckStatus> possibleProblems = new ArrayList<>();
 
+        /**
+         * CheckCLDR objects set up for this file and options, which are not in use. CheckCLDR is
+         * not thread safe, so each caller takes one for itself, and another is made if there is
+         * none left; there are as many as there have been concurrent callers.
+         */
+        private final Deque<CheckCLDR> idleCheckers = new ConcurrentLinkedDeque<>();
+
+        /** Number of CheckCLDR objects made for this bundle */
+        private final AtomicInteger checkerCount = new AtomicInteger();
+
         protected TestResultBundle(CheckCLDR.Options cldrOptions) {
             options = cldrOptions;
             pathCache = new ConcurrentHashMap<>();
             file = getFactory().make(options.getLocale().getBaseName(), true);
-            synchronized (cc) {
-                cc.setCldrFileToCheck(file, options, possibleProblems);
-            }
+            idleCheckers.push(makeChecker(possibleProblems));
+        }
+
+        private CheckCLDR makeChecker(List<CheckStatus> problems) {
+            final CheckCLDR cc = CheckCLDR.getCheckAll(getFactory(), nameMatcher);
+            cc.setCldrFileToCheck(file, options, problems);
+            checkerCount.incrementAndGet();
+            return cc;
+        }
+
+        /**
+         * @return a CheckCLDR for the caller's use only, to be given back with releaseChecker
+         */
+        private CheckCLDR takeChecker() {
+            final CheckCLDR cc = idleCheckers.poll();
+            return (cc != null) ? cc : makeChecker(new ArrayList<>());
+        }
+
+        private void releaseChecker(CheckCLDR cc) {
+            idleCheckers.push(cc);
         }
 
         /**
          * Check the given value for the given path, using this TestResultBundle for options,
-         * pathCache and cc (CheckCLDR).
+         * pathCache and a CheckCLDR. Thread safe; concurrent callers check concurrently.
          *
          * @param path the path
          * @param result the list to which CheckStatus objects may be added; this function clears
@@ -65,32 +96,42 @@ public class TestCache implements XMLSource.Listener {
              */
             result.clear();
             Pair<String, String> key = new Pair<>(path, value);
-            List<CheckStatus> cachedResult =
-                    pathCache.computeIfAbsent(
-                            key,
-                            (Pair<String, String> k) -> {
-                                List<CheckStatus> l = new ArrayList<CheckStatus>();
-                                synchronized (cc) {
-                                    cc.check(
-                                            k.getFirst(),
-                                            file.getFullXPath(k.getFirst()),
-                                            k.getSecond(),
-                                            options,
-                                            l);
-                                }
-                                return l;
-                            });
-            if (cachedResult != null) {
-                result.addAll(cachedResult);
+            List<CheckStatus> cachedResult = pathCache.get(key);
+            if (cachedResult == null) {
+                // Not computeIfAbsent, which would hold a lock on part of the map while checking
+                final List<CheckStatus> l = new ArrayList<>();
+                final CheckCLDR cc = takeChecker();
+                try {
+                    cc.check(path, file.getFullXPath(path), value, options, l);
+                } finally {
+                    releaseChecker(cc);
+                }
+                cachedResult = pathCache.putIfAbsent(key, l);
+                if (cachedResult == null) {
+                    cachedResult = l;
+                }
             }
+            result.addAll(cachedResult);
         }
 
+        /** Get the examples for the given value and path. Thread safe, like check. */
         public void getExamples(String path, String value, List<CheckStatus> result) {
-            synchronized (cc) {
+            final CheckCLDR cc = takeChecker();
+            try {
                 cc.getExamples(path, file.getFullXPath(path), value, options, result);
+            } finally {
+                releaseChecker(cc);
             }
         }
 
+        /**
+         * @return the number of CheckCLDR objects made for this bundle, which is the most callers
+         *     that have checked at the same time
+         */
+        public int getCheckerCount() {
+            return checkerCount.get();
+        }
+
         public List<CheckStatus> getPossibleProblems() {
             return possibleProblems;
         }
@@ -107,6 +148,7 @@ public class TestCache implements XMLSource.Listener {
             CacheBuilder.newBuilder()
                     .maximumSize(CLDRConfig.getInstance().getProperty("CLDR_TESTCACHE_SIZE", 12))
                     .softValues()
+                    .recordStats()
                     .build(
                             new CacheLoader<CheckCLDR.Options, TestResultBundle>() {
 
@@ -120,6 +162,13 @@ public class TestCache implements XMLSource.Listener {
 
     private String nameMatcher = ".*";
 
+    /**
+     * @return hit, miss, and eviction counts for the test result bundles
+     */
+    public CacheStats getCacheStats() {
+        return testResultCache.stats();
+    }
+
     /** Get the bundle for this test */
     public TestResultBundle getBundle(final CheckCLDR.Options options) {
         TestResultBundle b;
@@ -267,11 +316,88 @@ public class TestCache implements XMLSource.Listener {
      * <p>There are currently unused (?) files Registerable.java and LocaleChangeRegistry.java that
      * appear to have been intended for a similar purpose. They are in the web package.
      *
+     * <p>Each value is an ExampleGeneratorPool, so that a locale's examples can be made on several
+     * threads at once.
+     *
+     * <p>The values are soft, so that memory pressure can drop them, rather than bounded by size:
+     * rebuilding ExampleGenerators is expensive, and a server may have many locales in use. Each
+     * one refers to the CLDRFile of its locale, so a replaced file is not kept (see
+     * getExampleGeneratorPool).
+     *
      * <p>Reference: https://unicode-org.atlassian.net/browse/CLDR-12020
      */
-    private static Cache<String, ExampleGenerator> exampleGeneratorCache =
+    private static Cache<String, ExampleGeneratorPool> exampleGeneratorCache =
             CacheBuilder.newBuilder().softValues().build();
 
+    /**
+     * ExampleGenerators for one locale, which share one example cache. ExampleGenerator is not
+     * thread safe, so each thread making examples at the same time has its own.
+     */
+    public static final class ExampleGeneratorPool {
+        private final CLDRFile cldrFile;
+        private final CLDRFile translationHintsFile;
+        private final ExampleCache exCache = new ExampleCache();
+
+        /** For callers that synchronize on it, such as for help; not lent out */
+        private final ExampleGenerator shared;
+
+        /** All of the ExampleGenerators, for updating their caches */
+        private final List<ExampleGenerator> all = new CopyOnWriteArrayList<>();
+
+        /** ExampleGenerators that are not in use */
+        private final Deque<ExampleGenerator> idle = new ConcurrentLinkedDeque<>();
+
+        private ExampleGeneratorPool(CLDRFile cldrFile, CLDRFile translationHintsFile) {
+            this.cldrFile = cldrFile;
+            this.translationHintsFile = translationHintsFile;
+            shared = make();
+        }
+
+        private ExampleGenerator make() {
+            final ExampleGenerator eg =
+                    new ExampleGenerator(cldrFile, translationHintsFile, exCache);
+            all.add(eg);
+            return eg;
+        }
+
+        /**
+         * @return the ExampleGenerator that is shared by all callers, which must synchronize on it
+         */
+        public ExampleGenerator getShared() {
+            return shared;
+        }
+
+        /**
+         * Get the example for the given path and value, as ExampleGenerator.getExampleHtml does.
+         * Thread safe: concurrent callers each use their own ExampleGenerator, so they don't wait
+         * for each other.
+         */
+        public String getExampleHtml(String xpath, String value) {
+            ExampleGenerator eg = idle.poll();
+            if (eg == null) {
+                eg = make();
+            }
+            try {
+                return eg.getExampleHtml(xpath, value);
+            } finally {
+                idle.push(eg);
+            }
+        }
+
+        /**
+         * @return the number of ExampleGenerators made for this pool
+         */
+        public int size() {
+            return all.size();
+        }
+
+        private void updateCache(String xpath) {
+            for (ExampleGenerator eg : all) {
+                eg.updateCache(xpath);
+            }
+        }
+    }
+
     /**
      * Get an ExampleGenerator for the given locale, etc.
      *
@@ -280,7 +406,7 @@ public class TestCache implements XMLSource.Listener {
      * @param locale the CLDRLocale
      * @param ourSrc the CLDRFile for the locale
      * @param translationHintsFile the CLDRFile for translation hints (English)
-     * @return the ExampleGenerator
+     * @return the ExampleGenerator, which callers on different threads must synchronize on
      *     <p>Called by DataPage.make for use in SurveyTool.
      *     <p>Note: other objects also have functions named "getExampleGenerator":
      *     org.unicode.cldr.unittest.TestExampleGenerator.getExampleGenerator(String)
@@ -288,25 +414,67 @@ public class TestCache implements XMLSource.Listener {
      */
     public static ExampleGenerator getExampleGenerator(
             CLDRLocale locale, CLDRFile ourSrc, CLDRFile translationHintsFile) {
-        boolean egCacheIsEnabled = true;
-        if (!egCacheIsEnabled) {
-            return new ExampleGenerator(ourSrc, translationHintsFile);
-        }
-        /*
-         * TODO: consider get(locString, Callable) instead of getIfPresent and put.
-         */
+        return getExampleGeneratorPool(locale, ourSrc, translationHintsFile).getShared();
+    }
+
+    /**
+     * Get the ExampleGeneratorPool for the given locale, etc., from the cache
+     *
+     * @param locale the CLDRLocale
+     * @param ourSrc the CLDRFile for the locale
+     * @param translationHintsFile the CLDRFile for translation hints (English)
+     * @return the pool, for making examples on several threads at once
+     */
+    public static ExampleGeneratorPool getExampleGeneratorPool(
+            CLDRLocale locale, CLDRFile ourSrc, CLDRFile translationHintsFile) {
         String locString = locale.toString();
-        ExampleGenerator eg = exampleGeneratorCache.getIfPresent(locString);
-        if (eg == null) {
-            synchronized (exampleGeneratorCache) {
-                eg = exampleGeneratorCache.getIfPresent(locString);
-                if (eg == null) {
-                    eg = new ExampleGenerator(ourSrc, translationHintsFile);
-                    exampleGeneratorCache.put(locString, eg);
-                }
+        try {
+            // Only blocks callers for the same locale while it is being built
+            ExampleGeneratorPool pool =
+                    exampleGeneratorCache.get(
+                            locString,
+                            () -> new ExampleGeneratorPool(ourSrc, translationHintsFile));
+            if (pool.cldrFile != ourSrc) {
+                // The locale's file was replaced (such as by reloading the locale), so don't
+                // keep the old one, and its PerLocaleData, reachable
+                exampleGeneratorCache.asMap().remove(locString, pool);
+                pool =
+                        exampleGeneratorCache.get(
+                                locString,
+                                () -> new ExampleGeneratorPool(ourSrc, translationHintsFile));
             }
+            return pool;
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, e, () -> "Failed to make ExampleGenerator for " + locale);
+            throw new RuntimeException(e);
         }
-        return eg;
+    }
+
+    /**
+     * Build and cache the examples for the given paths, ahead of a request for them
+     *
+     * @param locale the CLDRLocale
+     * @param ourSrc the CLDRFile for the locale
+     * @param translationHintsFile the CLDRFile for translation hints (English)
+     * @param xpaths the paths, such as all paths of one page
+     * @return the number of paths with values
+     */
+    public static int prebuildExamples(
+            CLDRLocale locale,
+            CLDRFile ourSrc,
+            CLDRFile translationHintsFile,
+            Iterable<String> xpaths) {
+        final ExampleGenerator eg = getExampleGenerator(locale, ourSrc, translationHintsFile);
+        final int count = eg.prebuildExamples(xpaths);
+        logger.fine(
+                () ->
+                        "Prebuilt "
+                                + count
+                                + " examples for "
+                                + locale
+                                + ": "
+                                + eg.getExampleCacheStatus());
+        return count;
     }
 
     /**
@@ -317,8 +485,8 @@ public class TestCache implements XMLSource.Listener {
      *     <p>Called by valueChangedInvalidateRecursively
      */
     private static void updateExampleGeneratorCache(String xpath, CLDRLocale locale) {
-        ExampleGenerator eg = exampleGeneratorCache.getIfPresent(locale.toString());
-        if (eg != null) {
+        ExampleGeneratorPool pool = exampleGeneratorCache.getIfPresent(locale.toString());
+        if (pool != null) {
             /*
              * Each ExampleGenerator has its own internal cache, which is not the same
              * as exampleGeneratorCache.
@@ -328,7 +496,7 @@ public class TestCache implements XMLSource.Listener {
              * Ideally eg.updateCache will only clear the minimum set of examples (in its internal
              * cache) required due to dependence on the given xpath.
              */
-            eg.updateCache(xpath);
+            pool.updateCache(xpath);
         }
     }
 
@@ -61,13 +61,13 @@ public class ChartPersonName extends Chart {
     @Override
     public void writeContents(Writer pw, Factory factory) throws IOException {
         CLDRFile cldrFile = factory.make(locale, true);
-        Map<SampleType, SimpleNameObject> names = PersonNameFormatter.loadSampleNames(cldrFile);
+        Map<SampleType, SimpleNameObject> names = PersonNameFormatter.getSampleNames(cldrFile);
         if (names.isEmpty()) {
             pw.write("<p>No sample names to display.</p>");
             return;
         }
         pw.write("<div class='ReportChart'>\n");
-        PersonNameFormatter formatter = new PersonNameFormatter(cldrFile);
+        PersonNameFormatter formatter = PersonNameFormatter.getInstance(cldrFile);
 
         for (Source source : Source.values()) {
             for (Filter filter : Filter.values()) {
@@ -1,5 +1,7 @@
 package org.unicode.cldr.tool;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.ibm.icu.impl.Row;
 import com.ibm.icu.impl.Row.R2;
@@ -9,6 +11,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import org.unicode.cldr.util.Builder;
@@ -21,24 +24,60 @@ import org.unicode.cldr.util.SupplementalDataInfo.BasicLanguageData.Type;
 import org.unicode.cldr.util.SupplementalDataInfo.CurrencyDateInfo;
 import org.unicode.cldr.util.SupplementalDataInfo.PopulationData;
 
+/**
+ * Maximizes and minimizes language tags using likely subtags data.
+ *
+ * <p>Instances are immutable and thread-safe. Results of {@link #maximize(String)} and {@link
+ * #minimize(String, OutputOption)} are memoized, and the memo is shared by all instances that use
+ * the same data, so it is cheap to create an instance (or use the static methods) for each call.
+ */
 public class LikelySubtags {
     static final boolean DEBUG = true;
     static final String TAG_SEPARATOR = "_";
     private static final boolean SKIP_UND = true;
 
-    private boolean favorRegion = false;
+    /** Config: max # of tags memoized for maximize, and for minimize */
+    private static final String CLDR_LIKELY_SUBTAGS_MEMO_SIZE = "CLDR_LIKELY_SUBTAGS_MEMO_SIZE";
+
+    private final boolean favorRegion;
     private final Map<String, String> toMaximized;
+    private final Memo memo;
 
     /**
      * Create the likely subtags.
      *
-     * @param toMaximized
+     * @param toMaximized the likely subtags data, or null for the data in SupplementalDataInfo
      */
     public LikelySubtags(Map<String, String> toMaximized) {
-        this.toMaximized =
-                toMaximized == null
-                        ? LikelySubtagsData.getInstance().defaultToMaximized
-                        : ImmutableMap.copyOf(toMaximized);
+        final LikelySubtagsData data = LikelySubtagsData.getInstance();
+        if (toMaximized == null || toMaximized == data.supplementalToMaximized) {
+            this.toMaximized = data.defaultToMaximized;
+            this.memo = data.defaultMemo;
+        } else {
+            this.toMaximized = ImmutableMap.copyOf(toMaximized);
+            this.memo = new Memo();
+        }
+        this.favorRegion = false;
+    }
+
+    private LikelySubtags(LikelySubtags other, boolean favorRegion) {
+        this.toMaximized = other.toMaximized;
+        this.memo = other.memo;
+        this.favorRegion = favorRegion;
+    }
+
+    /**
+     * Memoized results for one set of data. Null results are stored as empty. Keys for minimize
+     * include favorRegion and the output option.
+     */
+    private static final class Memo {
+        private static final int SIZE =
+                CLDRConfig.getInstance().getProperty(CLDR_LIKELY_SUBTAGS_MEMO_SIZE, 10000);
+
+        final Cache<String, Optional<String>> maximized =
+                CacheBuilder.newBuilder().maximumSize(SIZE).build();
+        final Cache<String, Optional<String>> minimized =
+                CacheBuilder.newBuilder().maximumSize(SIZE).build();
     }
 
     /** thread-safe data loading. Retooled so that the constant data is shared across instances. */
@@ -51,8 +90,13 @@ public class LikelySubtags {
 
         private final SupplementalDataInfo supplementalDataInfo =
                 CLDRConfig.getInstance().getSupplementalDataInfo();
-        private final Map<String, String> defaultToMaximized =
+        private final Map<String, String> supplementalToMaximized =
                 supplementalDataInfo.getLikelySubtags();
+        /** the data as a hash table, rather than the sorted map from SupplementalDataInfo */
+        private final Map<String, String> defaultToMaximized =
+                ImmutableMap.copyOf(supplementalToMaximized);
+
+        private final Memo defaultMemo = new Memo();
         private final Map<String, String> currencyToLikelyTerritory;
 
         private LikelySubtagsData() {
@@ -98,9 +142,12 @@ public class LikelySubtags {
         return favorRegion;
     }
 
+    /**
+     * @return an instance with the same data and this setting; instances are immutable, so use the
+     *     return value
+     */
     public LikelySubtags setFavorRegion(boolean favorRegion) {
-        this.favorRegion = favorRegion;
-        return this;
+        return favorRegion == this.favorRegion ? this : new LikelySubtags(this, favorRegion);
     }
 
     public Map<String, String> getToMaximized() {
@@ -116,11 +163,20 @@ public class LikelySubtags {
         return new LikelySubtags(toMaximized).setFavorRegion(favorRegion).minimize(input);
     }
 
-    // TODO Old, crufty code, needs reworking.
-    public synchronized String maximize(String languageTag) {
+    public String maximize(String languageTag) {
         if (languageTag == null) {
             return null;
         }
+        Optional<String> result = memo.maximized.getIfPresent(languageTag);
+        if (result == null) {
+            result = Optional.ofNullable(computeMaximized(languageTag));
+            memo.maximized.put(languageTag, result);
+        }
+        return result.orElse(null);
+    }
+
+    // TODO Old, crufty code, needs reworking.
+    private String computeMaximized(String languageTag) {
         LanguageTagParser ltp = new LanguageTagParser();
         if (DEBUG && languageTag.equals("es" + TAG_SEPARATOR + "Hans" + TAG_SEPARATOR + "CN")) {
             System.out.print(""); // debug
@@ -248,8 +304,21 @@ public class LikelySubtags {
         return minimize(input, OutputOption.ICU_LCVARIANT);
     }
 
-    public synchronized String minimize(String input, OutputOption oo) {
-        String maximized = maximize(input, toMaximized);
+    public String minimize(String input, OutputOption oo) {
+        if (input == null) {
+            return null;
+        }
+        final String key = (favorRegion ? "r" : "s") + oo.ordinal() + TAG_SEPARATOR + input;
+        Optional<String> result = memo.minimized.getIfPresent(key);
+        if (result == null) {
+            result = Optional.ofNullable(computeMinimized(input, oo));
+            memo.minimized.put(key, result);
+        }
+        return result.orElse(null);
+    }
+
+    private String computeMinimized(String input, OutputOption oo) {
+        String maximized = maximize(input);
         if (maximized == null) {
             return null;
         }
@@ -278,7 +347,7 @@ public class LikelySubtags {
             language + TAG_SEPARATOR + (!favorRegion ? region : script)
         };
         for (String trial : trials) {
-            String newMaximized = maximize(trial, toMaximized);
+            String newMaximized = maximize(trial);
             if (maximizedCheck.equals(newMaximized)) {
                 if (variants.isEmpty() && extensions.isEmpty() && localeExtensions.isEmpty()) {
                     return trial;
@@ -3,7 +3,12 @@ package org.unicode.cldr.util;
 import com.google.common.base.Joiner;
 import com.google.common.base.Objects;
 import com.google.common.base.Splitter;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Iterables;
 import com.ibm.icu.impl.UnicodeMap;
 import com.ibm.icu.impl.Utility;
 import com.ibm.icu.lang.CharSequences;
@@ -51,6 +56,14 @@ public class Annotations {
     static final Factory ANNOTATIONS_FACTORY;
     private static final AnnotationSet ENGLISH_DATA;
 
+    /**
+     * Keywords, names and emoji sequences recur across locales (and keyword sets across related
+     * locales), so they are shared by all the loaded locales rather than held once per locale.
+     */
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+    private static final Interner<Set<String>> KEYWORD_SETS = Interners.newWeakInterner();
+
     private final Set<String> annotations;
     private final String tts;
 
@@ -83,31 +96,7 @@ public class Annotations {
         }
 
         public AnnotationSet cleanup() {
-            // add parent data (may be overridden)
-            UnicodeMap<Annotations> templocaleData = null;
-            if (parentData != null) {
-                templocaleData = new UnicodeMap<>();
-                UnicodeSet keys =
-                        new UnicodeSet(parentData.baseData.keySet()).addAll(localeData.keySet());
-                for (String key : keys) {
-                    Annotations parentValue = parentData.baseData.get(key);
-                    Annotations myValue = localeData.get(key);
-                    if (parentValue == null) {
-                        templocaleData.put(key, myValue);
-                    } else if (myValue == null) {
-                        templocaleData.put(key, parentValue);
-                    } else { // need to combine
-                        String tts = myValue.tts == null ? parentValue.tts : myValue.tts;
-                        Set<String> annotations =
-                                myValue.annotations == null || myValue.annotations.isEmpty()
-                                        ? parentValue.annotations
-                                        : myValue.annotations;
-                        templocaleData.put(key, new Annotations(annotations, tts));
-                    }
-                }
-            }
-
-            final AnnotationSet result = new AnnotationSet(locale, localeData, templocaleData);
+            final AnnotationSet result = new AnnotationSet(locale, localeData, parentData);
             dirCache.put(locale, result);
             return result;
         }
@@ -161,7 +150,7 @@ public class Annotations {
                 Set<String> attributes,
                 String tts) {
             for (String entry : us) {
-                addItems(unicodeMap, entry, attributes, tts);
+                addItems(unicodeMap, STRINGS.intern(entry), attributes, tts);
             }
         }
 
@@ -180,19 +169,25 @@ public class Annotations {
     }
 
     public Annotations(Set<String> attributes, String tts2) {
-        annotations =
-                attributes == null
-                        ? Collections.<String>emptySet()
-                        : ImmutableSet.copyOf(attributes);
-        for (String attr : annotations) {
-            if (attr.contains(CldrUtility.INHERITANCE_MARKER)) {
-                throw new IllegalArgumentException(CldrUtility.INHERITANCE_MARKER);
+        if (attributes == null || attributes.isEmpty()) {
+            annotations = Collections.<String>emptySet();
+        } else {
+            ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+            for (String attr : attributes) {
+                if (attr.contains(CldrUtility.INHERITANCE_MARKER)) {
+                    throw new IllegalArgumentException(CldrUtility.INHERITANCE_MARKER);
+                }
+                builder.add(STRINGS.intern(attr));
             }
+            final Set<String> built = builder.build();
+            final Set<String> shared = KEYWORD_SETS.intern(built);
+            // an equal set may be in a different order
+            annotations = Iterables.elementsEqual(shared, built) ? shared : built;
         }
-        tts = tts2;
-        if (tts != null && tts.contains(CldrUtility.INHERITANCE_MARKER)) {
+        if (tts2 != null && tts2.contains(CldrUtility.INHERITANCE_MARKER)) {
             throw new IllegalArgumentException(CldrUtility.INHERITANCE_MARKER);
         }
+        tts = tts2 == null ? null : STRINGS.intern(tts2);
     }
 
     public Annotations add(Set<String> attributes, String tts2) {
@@ -249,7 +244,9 @@ public class Annotations {
         // CLDRConfig.getInstance().getAnnotationsFactory().make("en", false);
 
         private final String locale;
-        private final UnicodeMap<Annotations> baseData;
+        /** The resolved data, built from the parent's when first used */
+        private final Supplier<UnicodeMap<Annotations>> resolvedData;
+
         private final UnicodeMap<Annotations> unresolvedData;
         private final CLDRFile cldrFile;
         private final SubdivisionNames subdivisionIdToName;
@@ -269,12 +266,13 @@ public class Annotations {
                 new UnicodeSetSpanner(EmojiConstants.COMPONENTS); // must be sync'ed
 
         private AnnotationSet(
-                String locale,
-                UnicodeMap<Annotations> source,
-                UnicodeMap<Annotations> resolvedSource) {
+                String locale, UnicodeMap<Annotations> source, AnnotationSet parentData) {
             this.locale = locale;
             unresolvedData = source.freeze();
-            this.baseData = resolvedSource == null ? unresolvedData : resolvedSource.freeze();
+            this.resolvedData =
+                    parentData == null
+                            ? Suppliers.ofInstance(unresolvedData)
+                            : Suppliers.memoize(() -> resolve(unresolvedData, parentData));
             cldrFile = factory.make(locale, true);
             subdivisionIdToName = new SubdivisionNames(locale, "main", "subdivisions");
             // EmojiSubdivisionNames.getSubdivisionIdToName(locale);
@@ -311,6 +309,31 @@ public class Annotations {
             // getStringValue("//ldml/characterLabels/characterLabel[@type=\"female\"]");
         }
 
+        /** Add parent data (may be overridden) */
+        private static UnicodeMap<Annotations> resolve(
+                UnicodeMap<Annotations> localeData, AnnotationSet parentData) {
+            final UnicodeMap<Annotations> parentBaseData = parentData.getExplicitValues();
+            final UnicodeMap<Annotations> result = new UnicodeMap<>();
+            UnicodeSet keys = new UnicodeSet(parentBaseData.keySet()).addAll(localeData.keySet());
+            for (String key : keys) {
+                Annotations parentValue = parentBaseData.get(key);
+                Annotations myValue = localeData.get(key);
+                if (parentValue == null) {
+                    result.put(key, myValue);
+                } else if (myValue == null) {
+                    result.put(key, parentValue);
+                } else { // need to combine
+                    String tts = myValue.tts == null ? parentValue.tts : myValue.tts;
+                    Set<String> annotations =
+                            myValue.annotations == null || myValue.annotations.isEmpty()
+                                    ? parentValue.annotations
+                                    : myValue.annotations;
+                    result.put(key, new Annotations(annotations, tts));
+                }
+            }
+            return result.freeze();
+        }
+
         /**
          * @deprecated Use {@link #getLabelSet(String)} instead
          */
@@ -358,7 +381,7 @@ public class Annotations {
             }
 
             code = code.replace(EmojiConstants.EMOJI_VARIANT_STRING, "");
-            Annotations stock = baseData.get(code);
+            Annotations stock = getExplicitValues().get(code);
             if (stock != null && stock.tts != null) {
                 return stock.tts;
             }
@@ -376,7 +399,7 @@ public class Annotations {
 
         public Set<String> getKeywords(String code) {
             code = code.replace(EmojiConstants.EMOJI_VARIANT_STRING, "");
-            Annotations stock = baseData.get(code);
+            Annotations stock = getExplicitValues().get(code);
             if (stock != null && stock.annotations != null) {
                 return stock.annotations;
             }
@@ -397,7 +420,7 @@ public class Annotations {
          * Emoji Presentation Selector removed!
          */
         public UnicodeSet keySet() {
-            return baseData.keySet();
+            return getExplicitValues().keySet();
         }
 
         private Annotations synthesize(String code, Transform<String, String> otherSource) {
@@ -536,7 +559,7 @@ public class Annotations {
         }
 
         private boolean matchesInitialPattern(String code) {
-            Annotations baseAnnotation = baseData.get(code);
+            Annotations baseAnnotation = getExplicitValues().get(code);
             String baseName = baseAnnotation == null ? null : baseAnnotation.getShortName();
             return baseName != null && initialRegexPattern.matcher(baseName).matches();
         }
@@ -554,7 +577,7 @@ public class Annotations {
 
             if (base != null) {
                 needMarker = false;
-                Annotations stock = baseData.get(base);
+                Annotations stock = getExplicitValues().get(base);
                 if (stock != null) {
                     shortName = stock.getShortName();
                     annotations.addAll(stock.getKeywords());
@@ -583,7 +606,7 @@ public class Annotations {
                     lastSkin =
                             mod; // collapse skin tones. TODO fix if we ever do multi-skin families
                 }
-                Annotations stock = baseData.get(mod);
+                Annotations stock = getExplicitValues().get(mod);
                 String modName = null;
                 if (stock != null) {
                     modName = stock.getShortName();
@@ -593,7 +616,7 @@ public class Annotations {
                 if (modName == null) {
                     needMarker = true;
                     if (ENGLISH_DATA != null) {
-                        Annotations engName = ENGLISH_DATA.baseData.get(mod);
+                        Annotations engName = ENGLISH_DATA.getExplicitValues().get(mod);
                         if (engName != null) {
                             modName = engName.getShortName();
                         }
@@ -679,7 +702,7 @@ public class Annotations {
         }
 
         public UnicodeMap<Annotations> getExplicitValues() {
-            return baseData;
+            return resolvedData.get();
         }
 
         public UnicodeMap<Annotations> getUnresolvedExplicitValues() {
@@ -749,7 +772,7 @@ public class Annotations {
 
     public static UnicodeMap<Annotations> getData(String dir, String locale) {
         AnnotationSet result = getDataSet(dir, locale);
-        return result == null ? null : result.baseData;
+        return result == null ? null : result.getExplicitValues();
     }
 
     @Override
@@ -799,7 +822,7 @@ public class Annotations {
 
     private static void writeList() {
         AnnotationSet eng = Annotations.getDataSet("en");
-        Annotations an = eng.baseData.get("❤");
+        Annotations an = eng.getExplicitValues().get("❤");
         final UnicodeMap<Annotations> map = eng.getUnresolvedExplicitValues();
         Set<String> keys = new TreeSet<>(ChartAnnotations.RBC);
         map.keySet().addAllTo(keys);
@@ -10,9 +10,12 @@ package org.unicode.cldr.util;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.ibm.icu.impl.Relation;
 import com.ibm.icu.impl.Row;
@@ -52,7 +55,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -161,6 +163,9 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
     private Set<String> extraPaths = null;
 
     private boolean locked;
+    /** For frozen files, the sorted paths for iterator(prefix...); built when first needed */
+    private volatile SortedPaths sortedPaths = null;
+
     private DtdType dtdType;
     private DtdData dtdData;
 
@@ -538,6 +543,7 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
         try {
             CLDRFile result = (CLDRFile) super.clone();
             result.locked = false;
+            result.sortedPaths = null;
             result.dataSource = result.dataSource.cloneAsThawed();
             return result;
         } catch (CloneNotSupportedException e) {
@@ -1349,6 +1355,9 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
     }
 
     public synchronized Iterator<String> iterator(String prefix) {
+        if (prefix != null && !prefix.isEmpty() && isFrozen()) {
+            return getSortedPaths(null).iterator(prefix);
+        }
         return dataSource.iterator(prefix);
     }
 
@@ -1357,6 +1366,9 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
     }
 
     public Iterator<String> iterator(String prefix, Comparator<String> comparator) {
+        if (comparator != null && isFrozen()) {
+            return getSortedPaths(comparator).orderedIterator(prefix);
+        }
         Iterator<String> it =
                 (prefix == null || prefix.length() == 0)
                         ? dataSource.iterator()
@@ -1367,6 +1379,114 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
         return orderedSet.iterator();
     }
 
+    private SortedPaths getSortedPaths(Comparator<String> comparator) {
+        SortedPaths result = sortedPaths;
+        if (result == null) {
+            String[] lexical = Iterators.toArray(dataSource.iterator(), String.class);
+            Arrays.sort(lexical);
+            result = new SortedPaths(lexical, comparator);
+        } else if (comparator != null && comparator != result.comparator) {
+            result = new SortedPaths(result.lexical, comparator);
+        } else {
+            return result;
+        }
+        sortedPaths = result;
+        return result;
+    }
+
+    /**
+     * The paths of a frozen file in lexical order, where those with any given prefix are a range
+     * found by binary search; and their order by a comparator (usually the DTD order), so that
+     * the paths in a range can be put in that order by their ranks, without the comparator.
+     */
+    private static final class SortedPaths {
+        private final String[] lexical;
+        private final Comparator<String> comparator;
+        /** the paths sorted by the comparator, or null if there is none */
+        private final String[] ordered;
+        /** for each path in lexical, its position in ordered */
+        private final int[] rank;
+
+        SortedPaths(String[] lexical, Comparator<String> comparator) {
+            this.lexical = lexical;
+            this.comparator = comparator;
+            if (comparator == null) {
+                ordered = null;
+                rank = null;
+                return;
+            }
+            ordered = lexical.clone();
+            Arrays.sort(ordered, comparator);
+            Map<String, Integer> positions = new HashMap<>(ordered.length * 2);
+            for (int i = 0; i < ordered.length; ++i) {
+                positions.put(ordered[i], i);
+            }
+            rank = new int[lexical.length];
+            for (int i = 0; i < lexical.length; ++i) {
+                rank[i] = positions.get(lexical[i]);
+            }
+        }
+
+        /**
+         * @return the paths starting with the prefix, in lexical order
+         */
+        Iterator<String> iterator(String prefix) {
+            final int start = findStart(prefix);
+            final int end = findEnd(prefix, start);
+            return Collections.unmodifiableList(Arrays.asList(lexical).subList(start, end))
+                    .iterator();
+        }
+
+        /**
+         * @return the paths starting with the prefix (if not null or empty), in the comparator's
+         *     order
+         */
+        Iterator<String> orderedIterator(String prefix) {
+            if (prefix == null || prefix.isEmpty()) {
+                return Collections.unmodifiableList(Arrays.asList(ordered)).iterator();
+            }
+            final int start = findStart(prefix);
+            final int end = findEnd(prefix, start);
+            final int[] ranks = Arrays.copyOfRange(rank, start, end);
+            Arrays.sort(ranks);
+            final List<String> result = new ArrayList<>(ranks.length);
+            for (int r : ranks) {
+                result.add(ordered[r]);
+            }
+            return Collections.unmodifiableList(result).iterator();
+        }
+
+        /** first index of a path >= the prefix */
+        private int findStart(String prefix) {
+            int low = 0;
+            int high = lexical.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (lexical[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /** first index, from start, of a path not starting with the prefix */
+        private int findEnd(String prefix, int start) {
+            int low = start;
+            int high = lexical.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (lexical[mid].startsWith(prefix)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
     public Iterable<String> fullIterable() {
         return new FullIterable(this);
     }
@@ -1405,6 +1525,11 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
         return DistinguishedXPath.getDistinguishingXPath(xpath, normalizedPath);
     }
 
+    /** For tests: the distinguishing path computed with XPathParts, without FlatXPath or caching */
+    static String getDistinguishingXPathByParts(String xpath) {
+        return DistinguishedXPath.computeDistinguishingXPathByParts(xpath).distinguishing;
+    }
+
     private static boolean equalsIgnoringDraft(String path1, String path2) {
         if (path1 == path2) {
             return true;
@@ -1419,55 +1544,54 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
         return getNondraftNonaltXPath(path1).equals(getNondraftNonaltXPath(path2));
     }
 
-    /*
-     * TODO: clarify the need for syncObject.
-     * Formerly, an XPathParts object named "nondraftParts" was used for this purpose, but
-     * there was no evident reason for it to be an XPathParts object rather than any other
-     * kind of object.
-     */
-    private static Object syncObject = new Object();
-
     public static String getNondraftNonaltXPath(String xpath) {
         if (xpath.indexOf("draft=\"") < 0 && xpath.indexOf("alt=\"") < 0) {
             return xpath;
         }
-        synchronized (syncObject) {
-            XPathParts parts =
-                    XPathParts.getFrozenInstance(xpath)
-                            .cloneAsThawed(); // can't be frozen since we call removeAttributes
-            String restore;
-            HashSet<String> toRemove = new HashSet<>();
-            for (int i = 0; i < parts.size(); ++i) {
-                if (parts.getAttributeCount(i) == 0) {
-                    continue;
-                }
-                Map<String, String> attributes = parts.getAttributes(i);
-                toRemove.clear();
-                restore = null;
-                for (Iterator<String> it = attributes.keySet().iterator(); it.hasNext(); ) {
-                    String attribute = it.next();
-                    if (attribute.equals("draft")) {
+        final String flat = FlatXPath.getNondraftNonaltXPath(xpath);
+        if (flat != null) {
+            return flat;
+        }
+        return getNondraftNonaltXPathByParts(xpath);
+    }
+
+    /** The general case of getNondraftNonaltXPath, with XPathParts; package-private for tests */
+    static String getNondraftNonaltXPathByParts(String xpath) {
+        XPathParts parts =
+                XPathParts.getFrozenInstance(xpath)
+                        .cloneAsThawed(); // can't be frozen since we call removeAttributes
+        String restore;
+        HashSet<String> toRemove = new HashSet<>();
+        for (int i = 0; i < parts.size(); ++i) {
+            if (parts.getAttributeCount(i) == 0) {
+                continue;
+            }
+            Map<String, String> attributes = parts.getAttributes(i);
+            toRemove.clear();
+            restore = null;
+            for (Iterator<String> it = attributes.keySet().iterator(); it.hasNext(); ) {
+                String attribute = it.next();
+                if (attribute.equals("draft")) {
+                    toRemove.add(attribute);
+                } else if (attribute.equals("alt")) {
+                    String value = attributes.get(attribute);
+                    int proposedPos = value.indexOf("proposed");
+                    if (proposedPos >= 0) {
                         toRemove.add(attribute);
-                    } else if (attribute.equals("alt")) {
-                        String value = attributes.get(attribute);
-                        int proposedPos = value.indexOf("proposed");
-                        if (proposedPos >= 0) {
-                            toRemove.add(attribute);
-                            if (proposedPos > 0) {
-                                restore =
-                                        value.substring(
-                                                0, proposedPos - 1); // is of form xxx-proposedyyy
-                            }
+                        if (proposedPos > 0) {
+                            restore =
+                                    value.substring(
+                                            0, proposedPos - 1); // is of form xxx-proposedyyy
                         }
                     }
                 }
-                parts.removeAttributes(i, toRemove);
-                if (restore != null) {
-                    attributes.put("alt", restore);
-                }
             }
-            return parts.toString();
+            parts.removeAttributes(i, toRemove);
+            if (restore != null) {
+                attributes.put("alt", restore);
+            }
         }
+        return parts.toString();
     }
 
     /**
@@ -2673,112 +2797,158 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
             return "distinguishingMap:"
                     + distinguishingMap.size()
                     + " "
-                    + "normalizedPathMap:"
-                    + normalizedPathMap.size();
+                    + distinguishingMap.stats()
+                    + "; "
+                    + XPathParts.getCacheStatus();
         }
 
-        private static Map<String, String> distinguishingMap = new ConcurrentHashMap<>();
-        private static Map<String, String> normalizedPathMap = new ConcurrentHashMap<>();
+        /** Max total length of the paths in distinguishingMap, in chars */
+        private static final long CACHE_MAX_CHARS =
+                Long.getLong("CLDR_DISTINGUISHED_XPATH_CACHE_MAX_CHARS", 50_000_000L);
 
-        static {
-            distinguishingMap.put("", ""); // seed this to make the code simpler
+        /**
+         * The distinguishing path for a path, and its normalized path if different. These are kept
+         * in one entry, so that they are evicted together.
+         */
+        private static final class Distinguished {
+            final String distinguishing;
+            /** null if the same as the path */
+            final String normalized;
+
+            Distinguished(String distinguishing, String normalized) {
+                this.distinguishing = distinguishing;
+                this.normalized = normalized;
+            }
         }
 
+        /** path → Distinguished; bounded by the total length of the paths */
+        private static final Cache<String, Distinguished> distinguishingMap =
+                CacheBuilder.newBuilder()
+                        .maximumWeight(CACHE_MAX_CHARS)
+                        .weigher(
+                                (String xpath, Distinguished d) ->
+                                        xpath.length()
+                                                + (d.distinguishing == xpath
+                                                        ? 0
+                                                        : d.distinguishing.length())
+                                                + (d.normalized == null
+                                                        ? 0
+                                                        : d.normalized.length()))
+                        .recordStats()
+                        .build();
+
         public static String getDistinguishingXPath(String xpath, String[] normalizedPath) {
+            if (xpath.isEmpty()) {
+                if (normalizedPath != null) {
+                    normalizedPath[0] = xpath;
+                }
+                return xpath;
+            }
+            Distinguished d = distinguishingMap.getIfPresent(xpath);
+            if (d == null) {
+                d = computeDistinguishingXPath(xpath);
+                distinguishingMap.put(xpath, d);
+            }
+            if (normalizedPath != null) {
+                normalizedPath[0] = (d.normalized == null) ? xpath : d.normalized;
+            }
+            return d.distinguishing;
+        }
+
+        private static Distinguished computeDistinguishingXPath(String xpath) {
+            // Most paths only need attributes removed, which FlatXPath does without parsing
+            final String flat = FlatXPath.getDistinguishingXPath(xpath);
+            if (flat != null) {
+                return new Distinguished(flat, null);
+            }
+            return computeDistinguishingXPathByParts(xpath);
+        }
+
+        static Distinguished computeDistinguishingXPathByParts(String xpath) {
             // For example, this removes [@xml:space="preserve"] from a path with element
             // foreignSpaceReplacement.
-            //     synchronized (distinguishingMap) {
-            String result = distinguishingMap.get(xpath);
-            if (result == null) {
-                XPathParts distinguishingParts =
-                        XPathParts.getFrozenInstance(xpath)
-                                .cloneAsThawed(); // not frozen, for removeAttributes
+            String normalized = null;
+            XPathParts distinguishingParts =
+                    XPathParts.getFrozenInstance(xpath)
+                            .cloneAsThawed(); // not frozen, for removeAttributes
 
-                DtdType type = distinguishingParts.getDtdData().dtdType;
-                Set<String> toRemove = new HashSet<>();
+            DtdType type = distinguishingParts.getDtdData().dtdType;
+            Set<String> toRemove = new HashSet<>();
 
-                // first clean up draft and alt
-                String draft = null;
-                String alt = null;
-                String references = "";
-                // note: we only need to clean up items that are NOT on the last element,
-                // so we go up to size() - 1.
+            // first clean up draft and alt
+            String draft = null;
+            String alt = null;
+            String references = "";
+            // note: we only need to clean up items that are NOT on the last element,
+            // so we go up to size() - 1.
 
-                // note: each successive item overrides the previous one. That's intended
+            // note: each successive item overrides the previous one. That's intended
 
-                for (int i = 0; i < distinguishingParts.size() - 1; ++i) {
-                    if (distinguishingParts.getAttributeCount(i) == 0) {
-                        continue;
-                    }
-                    toRemove.clear();
-                    Map<String, String> attributes = distinguishingParts.getAttributes(i);
-                    for (String attribute : attributes.keySet()) {
-                        if (attribute.equals("draft")) {
-                            draft = attributes.get(attribute);
-                            toRemove.add(attribute);
-                        } else if (attribute.equals("alt")) {
-                            alt = attributes.get(attribute);
-                            toRemove.add(attribute);
-                        } else if (attribute.equals("references")) {
-                            if (references.length() != 0) references += " ";
-                            references += attributes.get("references");
-                            toRemove.add(attribute);
-                        }
-                    }
-                    distinguishingParts.removeAttributes(i, toRemove);
+            for (int i = 0; i < distinguishingParts.size() - 1; ++i) {
+                if (distinguishingParts.getAttributeCount(i) == 0) {
+                    continue;
                 }
-                if (draft != null || alt != null || references.length() != 0) {
-                    // get the last element that is not ordered.
-                    int placementIndex = distinguishingParts.size() - 1;
-                    while (true) {
-                        String element = distinguishingParts.getElement(placementIndex);
-                        if (!DtdData.getInstance(type).isOrdered(element)) break;
-                        --placementIndex;
-                    }
-                    if (draft != null) {
-                        distinguishingParts.putAttributeValue(placementIndex, "draft", draft);
-                    }
-                    if (alt != null) {
-                        distinguishingParts.putAttributeValue(placementIndex, "alt", alt);
-                    }
-                    if (references.length() != 0) {
-                        distinguishingParts.putAttributeValue(
-                                placementIndex, "references", references);
-                    }
-                    String newXPath = distinguishingParts.toString();
-                    if (!newXPath.equals(xpath)) {
-                        normalizedPathMap.put(xpath, newXPath); // store differences
+                toRemove.clear();
+                Map<String, String> attributes = distinguishingParts.getAttributes(i);
+                for (String attribute : attributes.keySet()) {
+                    if (attribute.equals("draft")) {
+                        draft = attributes.get(attribute);
+                        toRemove.add(attribute);
+                    } else if (attribute.equals("alt")) {
+                        alt = attributes.get(attribute);
+                        toRemove.add(attribute);
+                    } else if (attribute.equals("references")) {
+                        if (references.length() != 0) references += " ";
+                        references += attributes.get("references");
+                        toRemove.add(attribute);
                     }
                 }
-
-                // now remove non-distinguishing attributes (if non-inheriting)
-                for (int i = 0; i < distinguishingParts.size(); ++i) {
-                    if (distinguishingParts.getAttributeCount(i) == 0) {
-                        continue;
-                    }
-                    String element = distinguishingParts.getElement(i);
-                    toRemove.clear();
-                    for (String attribute : distinguishingParts.getAttributeKeys(i)) {
-                        if (!isDistinguishing(type, element, attribute)) {
-                            toRemove.add(attribute);
-                        }
-                    }
-                    distinguishingParts.removeAttributes(i, toRemove);
+                distinguishingParts.removeAttributes(i, toRemove);
+            }
+            if (draft != null || alt != null || references.length() != 0) {
+                // get the last element that is not ordered.
+                int placementIndex = distinguishingParts.size() - 1;
+                while (true) {
+                    String element = distinguishingParts.getElement(placementIndex);
+                    if (!DtdData.getInstance(type).isOrdered(element)) break;
+                    --placementIndex;
                 }
-
-                result = distinguishingParts.toString();
-                if (result.equals(xpath)) { // don't save the copy if we don't have to.
-                    result = xpath;
+                if (draft != null) {
+                    distinguishingParts.putAttributeValue(placementIndex, "draft", draft);
+                }
+                if (alt != null) {
+                    distinguishingParts.putAttributeValue(placementIndex, "alt", alt);
+                }
+                if (references.length() != 0) {
+                    distinguishingParts.putAttributeValue(
+                            placementIndex, "references", references);
+                }
+                String newXPath = distinguishingParts.toString();
+                if (!newXPath.equals(xpath)) {
+                    normalized = newXPath; // store differences
                 }
-                distinguishingMap.put(xpath, result);
             }
-            if (normalizedPath != null) {
-                normalizedPath[0] = normalizedPathMap.get(xpath);
-                if (normalizedPath[0] == null) {
-                    normalizedPath[0] = xpath;
+
+            // now remove non-distinguishing attributes (if non-inheriting)
+            for (int i = 0; i < distinguishingParts.size(); ++i) {
+                if (distinguishingParts.getAttributeCount(i) == 0) {
+                    continue;
                 }
+                String element = distinguishingParts.getElement(i);
+                toRemove.clear();
+                for (String attribute : distinguishingParts.getAttributeKeys(i)) {
+                    if (!isDistinguishing(type, element, attribute)) {
+                        toRemove.add(attribute);
+                    }
+                }
+                distinguishingParts.removeAttributes(i, toRemove);
             }
-            return result;
+
+            String result = distinguishingParts.toString();
+            if (result.equals(xpath)) { // don't save the copy if we don't have to.
+                result = xpath;
+            }
+            return new Distinguished(result, normalized);
         }
 
         public Map<String, String> getNonDistinguishingAttributes(
@@ -16,9 +16,11 @@ import com.ibm.icu.util.ICUUncheckedIOException;
 import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -28,6 +30,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -55,7 +58,10 @@ public class CLDRTransforms {
         return this;
     }
 
-    final Set<String> overridden = new HashSet<>();
+    final Set<String> overridden = ConcurrentHashMap.newKeySet();
+
+    /** Files in TRANSFORM_DIR that have been registered, by registerCldrTransforms or lazily */
+    private final Set<String> registeredFiles = ConcurrentHashMap.newKeySet();
     // final DependencyOrder dependencyOrder = new DependencyOrder();
 
     //    static public class RegexFindFilenameFilter implements FilenameFilter {
@@ -80,6 +86,13 @@ public class CLDRTransforms {
      */
     public static void registerCldrTransforms(
             String dir, String namesMatchingRegex, Appendable showProgress, boolean keepDashTIds) {
+        synchronized (CLDRTransforms.class) {
+            registerCldrTransformsInternal(dir, namesMatchingRegex, showProgress, keepDashTIds);
+        }
+    }
+
+    private static void registerCldrTransformsInternal(
+            String dir, String namesMatchingRegex, Appendable showProgress, boolean keepDashTIds) {
         CLDRTransforms r = getInstance();
         if (dir == null) {
             dir = TRANSFORM_DIR;
@@ -116,15 +129,97 @@ public class CLDRTransforms {
         return Collections.unmodifiableSet(overridden);
     }
 
+    /**
+     * @return the files in TRANSFORM_DIR registered so far, by registerCldrTransforms or lazily
+     */
+    public Set<String> getRegisteredFiles() {
+        return Collections.unmodifiableSet(registeredFiles);
+    }
+
     static Transliterator fixup = Transliterator.getInstance("[:Mn:]any-hex/java");
 
+    /**
+     * Get a CLDR transliterator, by id or alias. If it hasn't been registered yet, just its file,
+     * and the files it depends on, are registered.
+     *
+     * <p>The compiled transliterators are kept by ICU's registry, which hands out a copy of the
+     * registered one for each call; that is cheap, and needed since transliterators can't be
+     * shared between threads without synchronizing.
+     */
     public Transliterator getInstance(String id) {
-        if (!overridden.contains(id)) {
+        if (!overridden.contains(id) && !registerLazily(id)) {
             throw new IllegalArgumentException("No overriden transform for " + id);
         }
         return Transliterator.getInstance(id);
     }
 
+    /**
+     * Register the file defining this id (as an id or alias), after the files that it depends on,
+     * unless that has already happened
+     *
+     * @return false if there is no CLDR transform with this id
+     */
+    private boolean registerLazily(String id) {
+        final String file = FileIndex.INSTANCE.idToFile.get(id.toLowerCase(Locale.ROOT));
+        if (file == null) {
+            return false;
+        }
+        if (registeredFiles.contains(file)) {
+            return true;
+        }
+        // Registration order matters (see getFileRegistrationOrder), so it is serialized; but it
+        // happens only once per file
+        synchronized (CLDRTransforms.class) {
+            registerWithDependencies(file, new HashSet<>());
+        }
+        return true;
+    }
+
+    private void registerWithDependencies(String file, Set<String> visiting) {
+        if (registeredFiles.contains(file) || !visiting.add(file)) {
+            return;
+        }
+        for (String dependency : FileIndex.INSTANCE.fileToDependencies.get(file)) {
+            final String dependencyFile =
+                    FileIndex.INSTANCE.idToFile.get(dependency.toLowerCase(Locale.ROOT));
+            if (dependencyFile != null) {
+                registerWithDependencies(dependencyFile, visiting);
+            }
+        }
+        registerTransliteratorsFromXML(TRANSFORM_DIR, file, noSkip, true);
+        Transliterator.registerAny(); // as in registerTranslit
+    }
+
+    /** The ids and dependencies of the files in TRANSFORM_DIR, read when first needed */
+    private static final class FileIndex {
+        static final FileIndex INSTANCE = new FileIndex();
+
+        /** lowercased id or alias → file */
+        final Map<String, String> idToFile = new HashMap<>();
+        /** file → ids used in its rules */
+        final Multimap<String, String> fileToDependencies = HashMultimap.create();
+
+        private FileIndex() {
+            for (String file : getAvailableIds()) {
+                ParsedTransformID directionInfo = new ParsedTransformID();
+                String ruleString = getIcuRulesFromXmlFile(TRANSFORM_DIR, file, directionInfo);
+                fileToDependencies.putAll(file, getDependencies(ruleString));
+                List<String> ids = new ArrayList<>();
+                if (directionInfo.direction != Direction.backward) {
+                    ids.add(directionInfo.getId());
+                    ids.addAll(Arrays.asList(directionInfo.getAliases()));
+                }
+                if (directionInfo.direction != Direction.forward) {
+                    ids.add(directionInfo.getBackwardId());
+                    ids.addAll(Arrays.asList(directionInfo.getBackwardAliases()));
+                }
+                for (String id : ids) {
+                    idToFile.putIfAbsent(id.toLowerCase(Locale.ROOT), file);
+                }
+            }
+        }
+    }
+
     public static Pattern TRANSFORM_ID_PATTERN = PatternCache.get("(.+)-([^/]+)(/(.*))?");
 
     public Transliterator getReverseInstance(String id) {
@@ -179,6 +274,9 @@ public class CLDRTransforms {
             }
             internalRegister(id, ruleString, Transliterator.REVERSE);
         }
+        if (TRANSFORM_DIR.equals(dir)) {
+            registeredFiles.add(cldrFileName); // only once it can be used
+        }
         return id;
     }
 
@@ -1018,15 +1116,7 @@ public class CLDRTransforms {
             //            ::NFC;
             ParsedTransformID directionInfo = new ParsedTransformID();
             String ruleString = getIcuRulesFromXmlFile(dir, file, directionInfo);
-            Set<String> others = new LinkedHashSet<>();
-            Set<String> order =
-                    ruleString
-                            .lines()
-                            .map(x -> x.trim())
-                            .filter(x -> x.contains("::") && !x.trim().startsWith("#"))
-                            .map(x -> parseDoubleColon(x, others))
-                            .collect(Collectors.toCollection(LinkedHashSet::new));
-            order.addAll(others);
+            Set<String> order = getDependencies(ruleString);
             if (SHOW) {
                 System.out.println(file + "=>" + order);
             }
@@ -1092,6 +1182,23 @@ public class CLDRTransforms {
     }
     // fails match: :: [:Latin:] fullwidth-halfwidth ();
 
+    /**
+     * @return the ids of the transliterators that these rules use, with :: (including those in
+     *     parentheses, for the reverse direction)
+     */
+    private static Set<String> getDependencies(String ruleString) {
+        Set<String> others = new LinkedHashSet<>();
+        Set<String> order =
+                ruleString
+                        .lines()
+                        .map(x -> x.trim())
+                        .filter(x -> x.contains("::") && !x.trim().startsWith("#"))
+                        .map(x -> parseDoubleColon(x, others))
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+        order.addAll(others);
+        return order;
+    }
+
     static final Pattern TRANSLIT_FINDER =
             Pattern.compile(
                     "\\s*::\\s*"
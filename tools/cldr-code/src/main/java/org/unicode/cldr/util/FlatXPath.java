@@ -0,0 +1,397 @@
+package org.unicode.cldr.util;
+
+import java.util.Comparator;
+
+/**
+ * A flat, index-based view of an xpath string: the offsets of the elements and attributes in the
+ * original string, in a single int array. Element and attribute names are interned when read, by a
+ * table that finds existing names without making substrings.
+ *
+ * <p>This is for hot paths that only need to look at a path, such as computing the distinguishing
+ * path of each path in a file, and that would otherwise parse it into an {@link XPathParts}, clone
+ * it and write it out again. Unlike XPathParts, it only accepts the canonical form
+ * //element[@attribute="value"]/..., and {@link #parse(String)} returns null for anything else, so
+ * that callers can fall back to XPathParts.
+ */
+public final class FlatXPath {
+    /** Ints per element in the token array: nameStart, nameEnd, attributeCount */
+    private static final int ELEMENT_INTS = 3;
+    /**
+     * Ints per attribute in the token array: start ('['), nameStart, nameEnd, valueStart, valueEnd
+     * (the closing quote)
+     */
+    private static final int ATTRIBUTE_INTS = 5;
+
+    private final String path;
+    /**
+     * For each element: nameStart, nameEnd, attributeCount, then for each of its attributes:
+     * start, nameStart, nameEnd, valueStart, valueEnd. The value ends at the closing quote, which
+     * is two chars before the end of the attribute. Values may contain '[' and ']', so these
+     * offsets, not a search, give the end.
+     */
+    private final int[] tokens;
+    /** Offset of each element in tokens */
+    private final int[] elementOffsets;
+
+    private FlatXPath(String path, int[] tokens, int[] elementOffsets) {
+        this.path = path;
+        this.tokens = tokens;
+        this.elementOffsets = elementOffsets;
+    }
+
+    /**
+     * Parse a path in canonical form
+     *
+     * @param path such as //ldml/localeDisplayNames/languages/language[@type="fr"]
+     * @return the FlatXPath, or null if the path isn't in the canonical form
+     */
+    public static FlatXPath parse(String path) {
+        final int len = path.length();
+        if (len < 3 || !path.startsWith("//")) {
+            return null;
+        }
+        int elementCount = 0;
+        int attributeCount = 0; // at least the number of attributes, with any '[' in values
+        for (int i = 1; i < len; ++i) {
+            final char c = path.charAt(i);
+            if (c == '/') {
+                ++elementCount;
+            } else if (c == '[') {
+                ++attributeCount;
+            }
+        }
+        final int[] tokens = new int[elementCount * ELEMENT_INTS + attributeCount * ATTRIBUTE_INTS];
+        final int[] elementOffsets = new int[elementCount];
+        int t = 0;
+        int e = 0;
+        int i = 2;
+        while (i < len) {
+            // element name
+            final int nameStart = i;
+            while (i < len && path.charAt(i) != '/' && path.charAt(i) != '[') {
+                char c = path.charAt(i);
+                if (c == '@' || c == '=' || c == '"' || c == '\'' || c == ']') {
+                    return null;
+                }
+                ++i;
+            }
+            if (i == nameStart) {
+                return null;
+            }
+            elementOffsets[e++] = t;
+            tokens[t++] = nameStart;
+            tokens[t++] = i;
+            final int countIndex = t++;
+            // attributes
+            while (i < len && path.charAt(i) == '[') {
+                final int start = i;
+                if (i + 1 >= len || path.charAt(i + 1) != '@') {
+                    return null;
+                }
+                final int attributeStart = i + 2;
+                final int equals = path.indexOf('=', attributeStart);
+                if (equals <= attributeStart
+                        || equals + 1 >= len
+                        || path.charAt(equals + 1) != '"') {
+                    return null;
+                }
+                for (int j = attributeStart; j < equals; ++j) {
+                    char c = path.charAt(j);
+                    if (c == '/' || c == '[' || c == ']' || c == '"' || c == '@') {
+                        return null;
+                    }
+                }
+                final int valueStart = equals + 2;
+                final int quote = path.indexOf('"', valueStart);
+                if (quote < 0 || quote + 1 >= len || path.charAt(quote + 1) != ']') {
+                    return null;
+                }
+                tokens[t++] = start;
+                tokens[t++] = attributeStart;
+                tokens[t++] = equals;
+                tokens[t++] = valueStart;
+                tokens[t++] = quote;
+                tokens[countIndex]++;
+                i = quote + 2;
+            }
+            if (i < len) {
+                if (path.charAt(i) != '/' || i + 1 >= len) {
+                    return null;
+                }
+                ++i;
+            }
+        }
+        if (e != elementCount) {
+            return null; // '/' or '[' inside a value
+        }
+        return new FlatXPath(path, tokens, elementOffsets);
+    }
+
+    /**
+     * @return the original path string
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+        return elementOffsets.length;
+    }
+
+    /**
+     * @return the (interned) name of the element
+     */
+    public String getElement(int element) {
+        final int t = elementOffsets[element];
+        return NAMES.get(path, tokens[t], tokens[t + 1]);
+    }
+
+    public int getAttributeCount(int element) {
+        return tokens[elementOffsets[element] + 2];
+    }
+
+    /**
+     * @return the (interned) name of the attribute
+     */
+    public String getAttributeName(int element, int attribute) {
+        final int a = attributeOffset(element, attribute);
+        return NAMES.get(path, tokens[a + 1], tokens[a + 2]);
+    }
+
+    /**
+     * @return the value of the attribute; this is a new string
+     */
+    public String getAttributeValue(int element, int attribute) {
+        final int a = attributeOffset(element, attribute);
+        return path.substring(tokens[a + 3], tokens[a + 4]);
+    }
+
+    private int attributeOffset(int element, int attribute) {
+        return elementOffsets[element] + ELEMENT_INTS + attribute * ATTRIBUTE_INTS;
+    }
+
+    /**
+     * @return the end of the attribute, just after its ']'
+     */
+    private int attributeEnd(int a) {
+        return tokens[a + 4] + 2;
+    }
+
+    /**
+     * Get the distinguishing path, for paths in canonical form that need no more than removing
+     * attributes: that is, those which have no draft, alt, or references attributes except on the
+     * last element, and whose attributes are in canonical order. This covers most paths, without
+     * building XPathParts objects.
+     *
+     * @param xpath the path
+     * @return the distinguishing path (the same string if nothing was removed), or null if the
+     *     path needs the general algorithm
+     */
+    public static String getDistinguishingXPath(String xpath) {
+        final FlatXPath f = parse(xpath);
+        if (f == null) {
+            return null;
+        }
+        final DtdType type = f.getDtdType();
+        if (type == null) {
+            return null;
+        }
+        final Comparator<String> comparator = getAttributeComparator(type);
+        final int last = f.size() - 1;
+        StringBuilder result = null;
+        int copiedTo = 0;
+        for (int e = 0; e <= last; ++e) {
+            final int count = f.getAttributeCount(e);
+            if (count == 0) {
+                continue;
+            }
+            final String element = f.getElement(e);
+            String previous = null;
+            for (int a = 0; a < count; ++a) {
+                final String attribute = f.getAttributeName(e, a);
+                if (e < last
+                        && (attribute.equals("draft")
+                                || attribute.equals("alt")
+                                || attribute.equals("references"))) {
+                    return null; // these move to the last element
+                }
+                if (previous != null && comparator.compare(previous, attribute) >= 0) {
+                    return null; // the general algorithm would reorder them
+                }
+                previous = attribute;
+                if (!CLDRFile.isDistinguishing(type, element, attribute)) {
+                    final int offset = f.attributeOffset(e, a);
+                    if (result == null) {
+                        result = new StringBuilder(xpath.length());
+                    }
+                    result.append(xpath, copiedTo, f.tokens[offset]);
+                    copiedTo = f.attributeEnd(offset);
+                }
+            }
+        }
+        if (result == null) {
+            return xpath;
+        }
+        return result.append(xpath, copiedTo, xpath.length()).toString();
+    }
+
+    /**
+     * Remove the draft attributes, and the alt attributes that are proposals (keeping the part of
+     * the alt value before "-proposed", if any), as {@link CLDRFile#getNondraftNonaltXPath(String)}
+     * does. Like {@link #getDistinguishingXPath(String)}, this only handles paths in canonical form
+     * whose attributes are in canonical order.
+     *
+     * @param xpath the path
+     * @return the path without them (the same string if nothing was removed), or null if the path
+     *     needs the general algorithm
+     */
+    public static String getNondraftNonaltXPath(String xpath) {
+        final FlatXPath f = parse(xpath);
+        if (f == null) {
+            return null;
+        }
+        final DtdType type = f.getDtdType();
+        if (type == null) {
+            return null;
+        }
+        final Comparator<String> comparator = getAttributeComparator(type);
+        StringBuilder result = null;
+        int copiedTo = 0;
+        for (int e = 0; e < f.size(); ++e) {
+            final int count = f.getAttributeCount(e);
+            String previous = null;
+            for (int a = 0; a < count; ++a) {
+                final String attribute = f.getAttributeName(e, a);
+                if (previous != null && comparator.compare(previous, attribute) >= 0) {
+                    return null; // XPathParts would reorder them
+                }
+                previous = attribute;
+                final int proposedPos =
+                        attribute.equals("alt")
+                                ? f.getAttributeValue(e, a).indexOf("proposed")
+                                : -1;
+                if (!attribute.equals("draft") && proposedPos < 0) {
+                    continue;
+                }
+                final int offset = f.attributeOffset(e, a);
+                if (result == null) {
+                    result = new StringBuilder(xpath.length());
+                }
+                if (proposedPos > 0) {
+                    // of the form xxx-proposedyyy: keep xxx
+                    final int valueStart = f.tokens[offset + 3];
+                    result.append(xpath, copiedTo, valueStart)
+                            .append(xpath, valueStart, valueStart + proposedPos - 1);
+                    copiedTo = f.attributeEnd(offset) - 2;
+                } else {
+                    result.append(xpath, copiedTo, f.tokens[offset]);
+                    copiedTo = f.attributeEnd(offset);
+                }
+            }
+        }
+        if (result == null) {
+            return xpath;
+        }
+        return result.append(xpath, copiedTo, xpath.length()).toString();
+    }
+
+    /**
+     * @return the DtdType of the first element, or null if it isn't one
+     */
+    private DtdType getDtdType() {
+        try {
+            return DtdType.fromElement(getElement(0));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the attribute order used by XPathParts for this type
+     */
+    private static Comparator<String> getAttributeComparator(DtdType type) {
+        return (type == DtdType.ldml)
+                ? CLDRFile.getAttributeOrdering()
+                : DtdData.getInstance(type).getAttributeComparator();
+    }
+
+    private static final NameTable NAMES = new NameTable();
+
+    /**
+     * Interned element and attribute names, found by region of a string. Lookups don't lock or
+     * allocate. There are only a few hundred distinct names in the DTDs, so the table is capped
+     * against unexpected input.
+     */
+    private static final class NameTable {
+        private static final int MAX_NAMES = 1 << 14;
+
+        /** open addressing, size is a power of 2, at most half full */
+        private volatile String[] table = new String[1024];
+
+        private int count = 0;
+
+        String get(String s, int start, int end) {
+            final String found = find(table, s, start, end);
+            return (found != null) ? found : add(s.substring(start, end));
+        }
+
+        private static String find(String[] t, String s, int start, int end) {
+            final int len = end - start;
+            final int mask = t.length - 1;
+            for (int i = hash(s, start, end) & mask; ; i = (i + 1) & mask) {
+                final String n = t[i];
+                if (n == null) {
+                    return null;
+                }
+                if (n.length() == len && s.regionMatches(start, n, 0, len)) {
+                    return n;
+                }
+            }
+        }
+
+        private synchronized String add(String name) {
+            String[] t = table;
+            final String found = find(t, name, 0, name.length());
+            if (found != null) {
+                return found;
+            }
+            name = name.intern();
+            if (count >= MAX_NAMES) {
+                return name;
+            }
+            if ((count + 1) * 2 > t.length) {
+                final String[] bigger = new String[t.length * 2];
+                for (String n : t) {
+                    if (n != null) {
+                        insert(bigger, n);
+                    }
+                }
+                t = bigger;
+            }
+            insert(t, name);
+            ++count;
+            table = t; // publish
+            return name;
+        }
+
+        private static void insert(String[] t, String name) {
+            final int mask = t.length - 1;
+            int i = hash(name, 0, name.length()) & mask;
+            while (t[i] != null) {
+                i = (i + 1) & mask;
+            }
+            t[i] = name;
+        }
+
+        private static int hash(String s, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; ++i) {
+                h = 31 * h + s.charAt(i);
+            }
+            return h ^ (h >>> 16);
+        }
+    }
+}
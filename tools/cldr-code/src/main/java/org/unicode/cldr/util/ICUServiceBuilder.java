@@ -22,10 +22,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.unicode.cldr.util.CLDRFile.Status;
 import org.unicode.cldr.util.DayPeriodInfo.DayPeriod;
 import org.unicode.cldr.util.SupplementalDataInfo.CurrencyNumberInfo;
 
+/**
+ * Builds ICU formatters and collators from CLDR data. The built objects are cached, and each call
+ * returns a copy, so an ICUServiceBuilder can be shared between threads once its CLDRFile is set.
+ */
 public class ICUServiceBuilder {
     public static Currency NO_CURRENCY = Currency.getInstance("XXX");
     private CLDRFile cldrFile;
@@ -52,16 +57,20 @@ public class ICUServiceBuilder {
         return iso.parse(date);
     }
 
-    private final Map<String, SimpleDateFormat> cacheDateFormats = new HashMap<>();
-    private final Map<String, DateFormatSymbols> cacheDateFormatSymbols = new HashMap<>();
-    private final Map<String, NumberFormat> cacheNumberFormats = new HashMap<>();
-    private final Map<String, DecimalFormatSymbols> cacheDecimalFormatSymbols = new HashMap<>();
-    private final Map<String, RuleBasedCollator> cacheRuleBasedCollators = new HashMap<>();
+    // The cached objects are never handed out or changed once cached, only copies of them
+    private final Map<String, SimpleDateFormat> cacheDateFormats = new ConcurrentHashMap<>();
+    private final Map<String, DateFormatSymbols> cacheDateFormatSymbols =
+            new ConcurrentHashMap<>();
+    private final Map<String, NumberFormat> cacheNumberFormats = new ConcurrentHashMap<>();
+    private final Map<String, DecimalFormatSymbols> cacheDecimalFormatSymbols =
+            new ConcurrentHashMap<>();
+    private final Map<String, RuleBasedCollator> cacheRuleBasedCollators =
+            new ConcurrentHashMap<>();
 
     /**
      * Caching can be disabled for some ICUServiceBuilder instances while still enabled for others.
      */
-    private boolean cachingIsEnabled = true;
+    private volatile boolean cachingIsEnabled = true;
 
     public void setCachingEnabled(boolean enabled) {
         cachingIsEnabled = enabled;
@@ -84,6 +93,28 @@ public class ICUServiceBuilder {
         }
     }
 
+    /**
+     * Clear just the cached objects that could depend on the value of this path, after it has
+     * changed. For example, a change to a date pattern doesn't clear the number formats.
+     *
+     * @param xpath the path whose value has changed
+     */
+    public void clearCache(String xpath) {
+        if (!ISB_CAN_CLEAR_CACHE) {
+            return;
+        }
+        if (xpath.startsWith("//ldml/dates/calendars/")) {
+            // Calendars can inherit from one another by alias, so clear all of them
+            cacheDateFormats.clear();
+            cacheDateFormatSymbols.clear();
+        } else if (xpath.startsWith("//ldml/numbers/")) {
+            cacheNumberFormats.clear();
+            cacheDecimalFormatSymbols.clear();
+        } else if (xpath.startsWith("//ldml/collations/")) {
+            cacheRuleBasedCollators.clear();
+        }
+    }
+
     private SupplementalDataInfo supplementalData;
 
     private static final int[] DateFormatValues = {
@@ -109,8 +140,7 @@ public class ICUServiceBuilder {
         return this;
     }
 
-    public static ICUServiceBuilder forLocale(CLDRLocale locale) {
-
+    public static synchronized ICUServiceBuilder forLocale(CLDRLocale locale) {
         ICUServiceBuilder result = ISBMap.get(locale);
 
         if (result == null) {
@@ -145,12 +175,12 @@ public class ICUServiceBuilder {
     public RuleBasedCollator getRuleBasedCollator(String type) throws Exception {
         RuleBasedCollator col = cachingIsEnabled ? cacheRuleBasedCollators.get(type) : null;
         if (col == null) {
-            col = _getRuleBasedCollator(type);
+            col = (RuleBasedCollator) _getRuleBasedCollator(type).freeze();
             if (cachingIsEnabled) {
                 cacheRuleBasedCollators.put(type, col);
             }
         }
-        return (RuleBasedCollator) col.clone();
+        return col.cloneAsThawed();
     }
 
     private RuleBasedCollator _getRuleBasedCollator(String type) throws Exception {
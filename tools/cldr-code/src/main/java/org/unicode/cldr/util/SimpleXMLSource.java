@@ -1,6 +1,5 @@
 package org.unicode.cldr.util;
 
-import com.ibm.icu.impl.Relation;
 import com.ibm.icu.text.Normalizer2;
 import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.util.VersionInfo;
@@ -10,6 +9,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import org.unicode.cldr.util.XPathParts.Comments;
 
@@ -17,8 +17,7 @@ public class SimpleXMLSource extends XMLSource {
     private Map<String, String> xpath_value = CldrUtility.newConcurrentHashMap();
     private Map<String, String> xpath_fullXPath = CldrUtility.newConcurrentHashMap();
     private Comments xpath_comments = new Comments(); // map from paths to comments.
-    private Relation<String, String> VALUE_TO_PATH = null;
-    private Object VALUE_TO_PATH_MUTEX = new Object();
+    private ValueToPaths valueToPaths = new ValueToPaths();
     private VersionInfo dtdVersionInfo;
 
     public SimpleXMLSource(String localeID) {
@@ -34,6 +33,7 @@ public class SimpleXMLSource extends XMLSource {
         this.xpath_value = copyAsLockedFrom.xpath_value;
         this.xpath_fullXPath = copyAsLockedFrom.xpath_fullXPath;
         this.xpath_comments = copyAsLockedFrom.xpath_comments;
+        this.valueToPaths = copyAsLockedFrom.valueToPaths; // same values, so same index
         this.setLocaleID(copyAsLockedFrom.getLocaleID());
         this.locationHash = Collections.unmodifiableMap(copyAsLockedFrom.locationHash);
         locked = true;
@@ -102,6 +102,7 @@ public class SimpleXMLSource extends XMLSource {
         result.xpath_comments = (Comments) result.xpath_comments.clone();
         result.xpath_fullXPath = CldrUtility.newConcurrentHashMap(result.xpath_fullXPath);
         result.xpath_value = CldrUtility.newConcurrentHashMap(result.xpath_value);
+        result.valueToPaths = new ValueToPaths();
         result.locationHash.putAll(result.locationHash);
         return result;
     }
@@ -121,47 +122,83 @@ public class SimpleXMLSource extends XMLSource {
 
     private void updateValuePathMapping(
             String distinguishingXPath, String oldValue, String newValue) {
-        synchronized (VALUE_TO_PATH_MUTEX) {
-            if (VALUE_TO_PATH != null) {
-                if (oldValue != null) {
-                    VALUE_TO_PATH.remove(normalize(oldValue), distinguishingXPath);
-                }
-                if (newValue != null) {
-                    VALUE_TO_PATH.put(normalize(newValue), distinguishingXPath);
-                }
-            }
-        }
+        valueToPaths.update(distinguishingXPath, oldValue, newValue);
     }
 
     @Override
     public void getPathsWithValue(String valueToMatch, String pathPrefix, Set<String> result) {
-        // build a Relation mapping value to paths, if needed
-        synchronized (VALUE_TO_PATH_MUTEX) {
-            if (VALUE_TO_PATH == null) {
-                VALUE_TO_PATH = Relation.of(new HashMap<String, Set<String>>(), HashSet.class);
-                for (Iterator<String> it = iterator(); it.hasNext(); ) {
-                    String path = it.next();
-                    String value1 = getValueAtDPathSkippingInheritanceMarker(path);
-                    if (value1 == null) {
-                        continue;
+        Set<String> paths = valueToPaths.get(normalize(valueToMatch), this);
+        if (pathPrefix == null || pathPrefix.length() == 0) {
+            result.addAll(paths);
+            return;
+        }
+        for (String path : paths) {
+            if (path.startsWith(pathPrefix)) {
+                result.add(path);
+            }
+        }
+    }
+
+    /**
+     * Reverse index from normalized value to paths, built when first needed, and then kept up to
+     * date as values change. Lookups don't lock: each set of paths is replaced, not changed, on
+     * update.
+     */
+    private static final class ValueToPaths {
+        private volatile Map<String, Set<String>> index = null;
+
+        Set<String> get(String normalizedValue, SimpleXMLSource source) {
+            Map<String, Set<String>> m = index;
+            if (m == null) {
+                synchronized (this) {
+                    m = index;
+                    if (m == null) {
+                        index = m = build(source);
                     }
-                    String value = normalize(value1);
-                    VALUE_TO_PATH.put(value, path);
                 }
             }
-            Set<String> paths = VALUE_TO_PATH.getAll(normalize(valueToMatch));
-            if (paths == null) {
-                return;
+            return m.getOrDefault(normalizedValue, Collections.emptySet());
+        }
+
+        private static Map<String, Set<String>> build(SimpleXMLSource source) {
+            Map<String, Set<String>> result = new ConcurrentHashMap<>();
+            for (Iterator<String> it = source.iterator(); it.hasNext(); ) {
+                String path = it.next();
+                String value = source.getValueAtDPathSkippingInheritanceMarker(path);
+                if (value == null) {
+                    continue;
+                }
+                result.computeIfAbsent(normalize(value), k -> new HashSet<>()).add(path);
             }
-            if (pathPrefix == null || pathPrefix.length() == 0) {
-                result.addAll(paths);
-                return;
+            return result;
+        }
+
+        synchronized void update(String path, String oldValue, String newValue) {
+            final Map<String, Set<String>> m = index;
+            if (m == null) {
+                return; // not built yet
             }
-            for (String path : paths) {
-                if (path.startsWith(pathPrefix)) {
-                    // if (altPath.originalPath.startsWith(altPrefix.originalPath)) {
-                    result.add(path);
-                }
+            if (oldValue != null) {
+                m.computeIfPresent(
+                        normalize(oldValue),
+                        (k, paths) -> {
+                            if (!paths.contains(path)) {
+                                return paths;
+                            }
+                            Set<String> changed = new HashSet<>(paths);
+                            changed.remove(path);
+                            return changed.isEmpty() ? null : changed;
+                        });
+            }
+            if (newValue != null && !CldrUtility.INHERITANCE_MARKER.equals(newValue)) {
+                m.compute(
+                        normalize(newValue),
+                        (k, paths) -> {
+                            Set<String> changed =
+                                    (paths == null) ? new HashSet<>() : new HashSet<>(paths);
+                            changed.add(path);
+                            return changed;
+                        });
             }
         }
     }
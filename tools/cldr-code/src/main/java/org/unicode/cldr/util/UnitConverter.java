@@ -2,6 +2,8 @@ package org.unicode.cldr.util;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableList;
@@ -189,6 +191,9 @@ public class UnitConverter implements Freezable<UnitConverter> {
 
             // must be after building comparators
             idToUnitId = ImmutableMap.copyOf(buildIdToUnitId());
+
+            // must be last, since the data used for conversions is now complete
+            cacheConversions = true;
         }
         return this;
     }
@@ -378,8 +383,13 @@ public class UnitConverter implements Freezable<UnitConverter> {
     public static final class ConversionInfo implements Comparable<ConversionInfo> {
         public final Rational factor;
         public final Rational offset;
-        public String special;
-        public boolean specialInverse; // only used with special
+        public final String special;
+        public final boolean specialInverse; // only used with special
+
+        /** factor for the double methods, or null if they should use the Rational ones */
+        private final DoubleFactor doubleFactor;
+
+        private final double doubleOffset;
 
         static final ConversionInfo IDENTITY = new ConversionInfo(Rational.ONE, Rational.ZERO);
 
@@ -388,6 +398,8 @@ public class UnitConverter implements Freezable<UnitConverter> {
             this.offset = offset;
             this.special = null;
             this.specialInverse = false;
+            this.doubleFactor = DoubleFactor.of(factor);
+            this.doubleOffset = offset.doubleValue();
         }
 
         public ConversionInfo(String special, boolean inverse) {
@@ -395,6 +407,65 @@ public class UnitConverter implements Freezable<UnitConverter> {
             this.offset = Rational.ZERO;
             this.special = special;
             this.specialInverse = inverse;
+            this.doubleFactor = null;
+            this.doubleOffset = 0;
+        }
+
+        /**
+         * Like {@link #convert(Rational)}, but with doubles; see {@link
+         * UnitConverter#convert(double, String, String)}
+         */
+        public double convert(double source) {
+            if (!Double.isFinite(source)) {
+                return source * factor.doubleValue() + doubleOffset;
+            }
+            final double result = convertDouble(source);
+            return Double.isNaN(result) ? convert(Rational.of(source)).doubleValue() : result;
+        }
+
+        /**
+         * Like {@link #convertBackwards(Rational)}, but with doubles; see {@link
+         * UnitConverter#convert(double, String, String)}
+         */
+        public double convertBackwards(double source) {
+            if (!Double.isFinite(source)) {
+                return (source - doubleOffset) / factor.doubleValue();
+            }
+            final double result = convertBackwardsDouble(source);
+            return Double.isNaN(result)
+                    ? convertBackwards(Rational.of(source)).doubleValue()
+                    : result;
+        }
+
+        /**
+         * @return the conversion of a finite value using only doubles, or NaN if that would lose
+         *     precision
+         */
+        private double convertDouble(double source) {
+            if (doubleFactor == null) {
+                return Double.NaN;
+            }
+            double result = doubleFactor.multiply(source);
+            if (doubleOffset != 0) {
+                result = addChecked(result, doubleOffset);
+            }
+            return isPrecise(source, result) ? result : Double.NaN;
+        }
+
+        /**
+         * @return the backwards conversion of a finite value using only doubles, or NaN if that
+         *     would lose precision
+         */
+        private double convertBackwardsDouble(double source) {
+            if (doubleFactor == null) {
+                return Double.NaN;
+            }
+            double result = source;
+            if (doubleOffset != 0) {
+                result = addChecked(result, -doubleOffset);
+            }
+            result = doubleFactor.divide(result);
+            return isPrecise(source, result) ? result : Double.NaN;
         }
 
         public Rational convert(Rational source) {
@@ -898,6 +969,108 @@ public class UnitConverter implements Freezable<UnitConverter> {
      */
     public ConversionInfo parseUnitId(
             String derivedUnit, Output<String> metricUnit, boolean showYourWork) {
+        if (!cacheConversions || showYourWork) {
+            return computeUnitId(derivedUnit, metricUnit, showYourWork);
+        }
+        ParsedUnitId parsed = parsedUnitIds.getIfPresent(derivedUnit);
+        if (parsed == null) {
+            Output<String> parsedMetricUnit = new Output<>();
+            ConversionInfo info = computeUnitId(derivedUnit, parsedMetricUnit, false);
+            parsed = new ParsedUnitId(info, parsedMetricUnit.value);
+            parsedUnitIds.put(derivedUnit, parsed);
+        }
+        metricUnit.value = parsed.metricUnit;
+        return parsed.info;
+    }
+
+    /** Max # of unit ids, and of pairs of unit ids, whose conversions are cached */
+    private static final int MAX_CACHED_UNIT_IDS = 10000;
+
+    /** The result of parseUnitId */
+    private static final class ParsedUnitId {
+        /** null if the unit can't be converted */
+        final ConversionInfo info;
+
+        final String metricUnit;
+
+        ParsedUnitId(ConversionInfo info, String metricUnit) {
+            this.info = info;
+            this.metricUnit = metricUnit;
+        }
+    }
+
+    /**
+     * A Rational factor whose numerator and denominator are exactly representable as doubles, for
+     * the double conversion methods. Multiplying and then dividing rounds at most twice.
+     */
+    private static final class DoubleFactor {
+        /** doubles represent integers exactly up to 2^53 */
+        private static final int MAX_BITS = 53;
+
+        final double numerator;
+        final double denominator;
+
+        private DoubleFactor(double numerator, double denominator) {
+            this.numerator = numerator;
+            this.denominator = denominator;
+        }
+
+        /**
+         * @return the factor, or null if it can't be represented exactly
+         */
+        static DoubleFactor of(Rational factor) {
+            if (factor.numerator.signum() == 0
+                    || factor.denominator.signum() == 0
+                    || factor.numerator.bitLength() > MAX_BITS
+                    || factor.denominator.bitLength() > MAX_BITS) {
+                return null;
+            }
+            return new DoubleFactor(
+                    factor.numerator.doubleValue(), factor.denominator.doubleValue());
+        }
+
+        double multiply(double value) {
+            return value * numerator / denominator;
+        }
+
+        double divide(double value) {
+            return value * denominator / numerator;
+        }
+    }
+
+    /**
+     * If adding an offset cancels more than this fraction of the larger operand (about 10 bits),
+     * the double methods use the Rational ones instead.
+     */
+    private static final double MAX_CANCELLATION = 1.0 / 1024;
+
+    /**
+     * @return a + b, or NaN if that loses too much precision
+     */
+    private static double addChecked(double a, double b) {
+        final double sum = a + b;
+        return Math.abs(sum) < MAX_CANCELLATION * Math.max(Math.abs(a), Math.abs(b))
+                ? Double.NaN
+                : sum;
+    }
+
+    /**
+     * @return false if a double result from a finite source is unusable: NaN from addChecked,
+     *     overflow, or underflow to zero
+     */
+    private static boolean isPrecise(double source, double result) {
+        return Double.isFinite(result) && (result != 0 || source == 0);
+    }
+
+    /** True once frozen; before then, the data used for conversions can change */
+    private boolean cacheConversions = false;
+
+    /** unit id → ParsedUnitId; only used once frozen */
+    private final Cache<String, ParsedUnitId> parsedUnitIds =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_UNIT_IDS).build();
+
+    private ConversionInfo computeUnitId(
+            String derivedUnit, Output<String> metricUnit, boolean showYourWork) {
         // First check whether we are dealing with a special mapping
         Output<String> testBaseUnit = new Output<>();
         ConversionInfo testInfo = getUnitInfo(derivedUnit, testBaseUnit);
@@ -2110,6 +2283,9 @@ public class UnitConverter implements Freezable<UnitConverter> {
             System.out.println(
                     showRational("\nconvert:\t", sourceValue, sourceUnitIn) + " ⟹ " + targetUnit);
         }
+        if (cacheConversions && !showYourWork) {
+            return getUnitConversion(sourceUnitIn, targetUnit).convert(sourceValue);
+        }
         final String sourceUnit = fixDenormalized(sourceUnitIn);
         Output<String> sourceBase = new Output<>();
         Output<String> targetBase = new Output<>();
@@ -2153,6 +2329,141 @@ public class UnitConverter implements Freezable<UnitConverter> {
         return result;
     }
 
+    /**
+     * A conversion between two units, as done by convert(): the conversions of each to its base
+     * unit, and whether the base units are reciprocals. Where both are just factors, they are
+     * combined into one.
+     */
+    private static final class UnitConversion {
+        static final UnitConversion NONE = new UnitConversion(null, null, false);
+
+        final ConversionInfo source;
+        final ConversionInfo target;
+        final boolean reciprocal;
+        /** source.factor / target.factor, if that is all there is to the conversion, else null */
+        final Rational factor;
+        /** factor, for convert(double) */
+        final DoubleFactor doubleFactor;
+
+        UnitConversion(ConversionInfo source, ConversionInfo target, boolean reciprocal) {
+            this.source = source;
+            this.target = target;
+            this.reciprocal = reciprocal;
+            this.factor =
+                    (source != null
+                                    && !reciprocal
+                                    && source.special == null
+                                    && target.special == null
+                                    && source.offset.equals(Rational.ZERO)
+                                    && target.offset.equals(Rational.ZERO))
+                            ? source.factor.divide(target.factor)
+                            : null;
+            this.doubleFactor = (factor == null) ? null : DoubleFactor.of(factor);
+        }
+
+        Rational convert(Rational sourceValue) {
+            if (factor != null) {
+                return sourceValue.multiply(factor);
+            }
+            if (source == null) {
+                return Rational.NaN;
+            }
+            Rational intermediateResult = source.convert(sourceValue);
+            if (reciprocal) {
+                intermediateResult = intermediateResult.reciprocal();
+            }
+            return target.convertBackwards(intermediateResult);
+        }
+
+        /**
+         * Convert with doubles. If any step would lose precision, the whole conversion is done
+         * with Rationals, so that errors from one step aren't magnified by the next.
+         */
+        double convert(double sourceValue) {
+            if (source == null) {
+                return Double.NaN;
+            }
+            if (!Double.isFinite(sourceValue)) {
+                double intermediateResult = source.convert(sourceValue);
+                if (reciprocal) {
+                    intermediateResult = 1 / intermediateResult;
+                }
+                return target.convertBackwards(intermediateResult);
+            }
+            double result;
+            if (factor != null) {
+                result = (doubleFactor == null) ? Double.NaN : doubleFactor.multiply(sourceValue);
+                if (!isPrecise(sourceValue, result)) {
+                    result = Double.NaN;
+                }
+            } else {
+                result = source.convertDouble(sourceValue);
+                if (reciprocal) {
+                    result = 1 / result;
+                }
+                result = target.convertBackwardsDouble(result);
+            }
+            return Double.isNaN(result) ? convert(Rational.of(sourceValue)).doubleValue() : result;
+        }
+    }
+
+    /** "source target" → UnitConversion; only used once frozen */
+    private final Cache<String, UnitConversion> unitConversions =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_UNIT_IDS).build();
+
+    private UnitConversion getUnitConversion(String sourceUnitIn, String targetUnit) {
+        final String key = sourceUnitIn + " " + targetUnit;
+        UnitConversion result = unitConversions.getIfPresent(key);
+        if (result == null) {
+            result = computeUnitConversion(fixDenormalized(sourceUnitIn), targetUnit);
+            unitConversions.put(key, result);
+        }
+        return result;
+    }
+
+    /** The same steps as convert(), without the value */
+    private UnitConversion computeUnitConversion(String sourceUnit, String targetUnit) {
+        Output<String> sourceBase = new Output<>();
+        Output<String> targetBase = new Output<>();
+        ConversionInfo sourceConversionInfo = parseUnitId(sourceUnit, sourceBase, false);
+        if (sourceConversionInfo == null) {
+            return UnitConversion.NONE;
+        }
+        ConversionInfo targetConversionInfo = parseUnitId(targetUnit, targetBase, false);
+        if (targetConversionInfo == null) {
+            return UnitConversion.NONE;
+        }
+        boolean reciprocal = false;
+        if (!sourceBase.value.equals(targetBase.value)) {
+            String sourceBaseFixed = createUnitId(sourceBase.value).resolve().toString();
+            String targetBaseFixed = createUnitId(targetBase.value).resolve().toString();
+            if (!sourceBaseFixed.equals(targetBaseFixed)) {
+                String reciprocalUnit = reciprocalOf(sourceBase.value);
+                if (reciprocalUnit == null || !targetBase.value.equals(reciprocalUnit)) {
+                    return UnitConversion.NONE;
+                }
+                reciprocal = true;
+            }
+        }
+        return new UnitConversion(sourceConversionInfo, targetConversionInfo, reciprocal);
+    }
+
+    /**
+     * Converts with doubles, for bulk use such as converting many values. The factors are derived
+     * once from the Rational data. Where doubles would lose precision (factors too large to
+     * represent exactly, overflow, or cancellation when adding offsets), this uses the Rational
+     * conversion instead. Results can differ from {@link #convert(Rational, String, String,
+     * boolean)} in the last few bits.
+     *
+     * @return the converted value, or NaN if the units can't be converted
+     */
+    public double convert(double sourceValue, String sourceUnit, String targetUnit) {
+        if (!cacheConversions) {
+            return convert(Rational.of(sourceValue), sourceUnit, targetUnit, false).doubleValue();
+        }
+        return getUnitConversion(sourceUnit, targetUnit).convert(sourceValue);
+    }
+
     public String fixDenormalized(String unit) {
         String fixed = fixDenormalized.get(unit);
         return fixed == null ? unit : fixed;
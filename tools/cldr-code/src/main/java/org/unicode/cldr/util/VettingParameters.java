@@ -1,6 +1,7 @@
 package org.unicode.cldr.util;
 
 import java.util.EnumSet;
+import java.util.Map;
 
 public class VettingParameters {
 
@@ -18,6 +19,9 @@ public class VettingParameters {
      */
     String specificSinglePath = null;
 
+    /** If not null, notifications by path, reused and filled in by the Dashboard */
+    Map<String, VettingViewer.PathNotifications> pathCache = null;
+
     public VettingParameters(
             EnumSet<NotificationCategory> choices, CLDRLocale locale, Level coverageLevel) {
         this.choices = choices;
@@ -68,6 +72,17 @@ public class VettingParameters {
         this.specificSinglePath = xpath;
     }
 
+    /**
+     * Reuse the notifications for each path from previous Dashboards. The caller must remove the
+     * paths which have changed, and must only share the map between Dashboards with the same
+     * locale, files, organization and coverage level.
+     *
+     * @param pathCache a thread-safe map from path to notifications
+     */
+    public void setPathCache(Map<String, VettingViewer.PathNotifications> pathCache) {
+        this.pathCache = pathCache;
+    }
+
     public void setUserAndOrganization(int userId, Organization organization) {
         this.userId = userId;
         this.organization = organization;
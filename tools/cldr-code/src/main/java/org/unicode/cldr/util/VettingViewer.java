@@ -63,6 +63,9 @@ public class VettingViewer<T> {
 
     private static final boolean DEBUG_THREADS = false;
 
+    /** Paths per progress report, since the Priority Items Summary reports from many threads */
+    private static final int NUDGE_BATCH = 64;
+
     private static final Set<CheckCLDR.CheckStatus.Subtype> OK_IF_VOTED =
             EnumSet.of(Subtype.sameAsEnglish);
 
@@ -80,6 +83,22 @@ public class VettingViewer<T> {
         this.localeBaselineCount = localeBaselineCount;
     }
 
+    private Map<String, LocaleSummary> summaryCache = null;
+    private LocaleStamps localeStamps = null;
+
+    /**
+     * Reuse the Priority Items Summary results for locales which haven't changed since they were
+     * last summarized
+     *
+     * @param summaryCache a thread-safe map, kept between summaries
+     * @param localeStamps gives the stamp which shows whether a locale has changed
+     */
+    public void setSummaryCache(
+            Map<String, LocaleSummary> summaryCache, LocaleStamps localeStamps) {
+        this.summaryCache = summaryCache;
+        this.localeStamps = localeStamps;
+    }
+
     public static OutdatedPaths getOutdatedPaths() {
         return outdatedPaths;
     }
@@ -294,6 +313,59 @@ public class VettingViewer<T> {
         }
     }
 
+    /**
+     * The notifications for one path that don't depend on the user, only on the locale,
+     * organization and coverage level. They can be cached between Dashboards, see {@link
+     * VettingParameters#setPathCache(Map)}.
+     */
+    public static final class PathNotifications {
+        /** The path is hidden, or is above the coverage level and has no problems */
+        public static final PathNotifications SKIP = new PathNotifications();
+
+        private final PathHeader ph;
+        private final Set<NotificationCategory> problems;
+        private final Set<Subtype> subtypes;
+        private final String htmlMessage;
+
+        private PathNotifications() {
+            this.ph = null;
+            this.problems = Collections.emptySet();
+            this.subtypes = Collections.emptySet();
+            this.htmlMessage = "";
+        }
+
+        private PathNotifications(
+                PathHeader ph,
+                EnumSet<NotificationCategory> problems,
+                EnumSet<Subtype> subtypes,
+                CharSequence htmlMessage) {
+            this.ph = ph;
+            this.problems = Collections.unmodifiableSet(problems.clone());
+            this.subtypes = Collections.unmodifiableSet(subtypes.clone());
+            this.htmlMessage = htmlMessage.toString();
+        }
+
+        /**
+         * @return the notification categories, not including those for the user (abstained)
+         */
+        public Set<NotificationCategory> getProblems() {
+            return problems;
+        }
+    }
+
+    /** The Priority Items Summary results for one locale, see {@link #setSummaryCache} */
+    public static final class LocaleSummary {
+        private final String stamp;
+        private final String row;
+        private final VettingCounters counters;
+
+        private LocaleSummary(String stamp, String row, VettingCounters counters) {
+            this.stamp = stamp;
+            this.row = row;
+            this.counters = counters;
+        }
+    }
+
     public class DashboardData {
         public Relation<R2<SectionId, PageId>, WritingInfo> sorted =
                 Relation.of(new TreeMap<R2<SectionId, PageId>, Set<WritingInfo>>(), TreeSet.class);
@@ -321,6 +393,7 @@ public class VettingViewer<T> {
             fileInfo.setSinglePath(args.specificSinglePath);
         }
         fileInfo.setFiles(args.sourceFile, args.baselineFile);
+        fileInfo.setPathCache(args.pathCache);
         fileInfo.setSorted(dd.sorted);
         fileInfo.setVoterProgressAndId(dd.voterProgress, args.userId);
         fileInfo.getFileInfo();
@@ -343,7 +416,7 @@ public class VettingViewer<T> {
         return new LocaleCompletionData(fileInfo.vc.problemCounter);
     }
 
-    private class VettingCounters {
+    private static class VettingCounters {
         private final Counter<NotificationCategory> problemCounter = new Counter<>();
         private final Counter<Subtype> errorSubtypeCounter = new Counter<>();
         private final Counter<Subtype> warningSubtypeCounter = new Counter<>();
@@ -397,6 +470,13 @@ public class VettingViewer<T> {
             this.latin = VettingViewer.isLatinScriptLocale(sourceFile);
         }
 
+        /** If not null, PathNotifications by path, from previous Dashboards */
+        private Map<String, PathNotifications> pathCache = null;
+
+        private void setPathCache(Map<String, PathNotifications> pathCache) {
+            this.pathCache = pathCache;
+        }
+
         /** If not null, this object gets filled in with additional information */
         private Relation<R2<SectionId, PageId>, WritingInfo> sorted = null;
 
@@ -445,20 +525,62 @@ public class VettingViewer<T> {
                 return;
             }
             Set<String> seenSoFar = new HashSet<>();
+            int unreported = 0;
             for (String path : sourceFile.fullIterable()) {
                 if (seenSoFar.contains(path)) {
                     continue;
                 }
                 seenSoFar.add(path);
-                progressCallback.nudge(); // Let the user know we're moving along
+                if (++unreported == NUDGE_BATCH) {
+                    progressCallback.nudge(unreported); // Let the user know we're moving along
+                    unreported = 0;
+                }
                 handleOnePath(path);
             }
+            if (unreported > 0) {
+                progressCallback.nudge(unreported);
+            }
         }
 
         private void handleOnePath(String path) {
+            PathNotifications n = (pathCache == null) ? null : pathCache.get(path);
+            if (n == null) {
+                n = getPathNotifications(path);
+                if (pathCache != null) {
+                    pathCache.put(path, n);
+                }
+            }
+            if (n == PathNotifications.SKIP) {
+                return;
+            }
+            problems.clear();
+            problems.addAll(n.problems);
+            for (NotificationCategory problem : n.problems) {
+                vc.problemCounter.increment(problem);
+                if (problem == NotificationCategory.error) {
+                    n.subtypes.forEach(vc.errorSubtypeCounter::increment);
+                } else if (problem == NotificationCategory.warning) {
+                    n.subtypes.forEach(vc.warningSubtypeCounter::increment);
+                }
+            }
+            updateVotedOrAbstained(path);
+
+            if (!problems.isEmpty() && sorted != null) {
+                reasonsToPaths.clear();
+                R2<SectionId, PageId> group = Row.of(n.ph.getSectionId(), n.ph.getPageId());
+                sorted.put(
+                        group, new WritingInfo(n.ph, problems, n.htmlMessage, firstSubtype(n)));
+            }
+        }
+
+        /**
+         * Get the notifications for this path that don't depend on the user. This is where the
+         * time goes: it runs the tests and resolves the votes for the path.
+         */
+        private PathNotifications getPathNotifications(String path) {
             PathHeader ph = pathTransform.fromPath(path);
             if (ph == null || ph.shouldHide()) {
-                return;
+                return PathNotifications.SKIP;
             }
             String value = sourceFile.getWinningValue(path);
             statusMessage.setLength(0);
@@ -481,19 +603,17 @@ public class VettingViewer<T> {
                             ? null
                             : baselineFileUnresolved.getWinningValue(path);
             if (skipForLimitedSubmission(path, errorStatus, oldValue)) {
-                return;
+                return PathNotifications.SKIP;
             }
             if (!onlyRecordErrors
                     && choices.contains(NotificationCategory.changedOldValue)
                     && changedFromBaseline(path, value, oldValue, sourceFile)) {
                 problems.add(NotificationCategory.changedOldValue);
-                vc.problemCounter.increment(NotificationCategory.changedOldValue);
             }
             if (!onlyRecordErrors
                     && choices.contains(NotificationCategory.inheritedChanged)
                     && inheritedChangedFromBaseline(path, value, sourceFile)) {
                 problems.add(NotificationCategory.inheritedChanged);
-                vc.problemCounter.increment(NotificationCategory.inheritedChanged);
             }
             VoteResolver.VoteStatus voteStatus =
                     userVoteStatus.getStatusForUsersOrganization(sourceFile, path, organization);
@@ -507,15 +627,9 @@ public class VettingViewer<T> {
                 recordLosingDisputedEtc(path, voteStatus, missingStatus);
             }
             if (pathLevelIsTooHigh && problems.isEmpty()) {
-                return;
-            }
-            updateVotedOrAbstained(path);
-
-            if (!problems.isEmpty() && sorted != null) {
-                reasonsToPaths.clear();
-                R2<SectionId, PageId> group = Row.of(ph.getSectionId(), ph.getPageId());
-                sorted.put(group, new WritingInfo(ph, problems, htmlMessage, firstSubtype()));
+                return PathNotifications.SKIP;
             }
+            return new PathNotifications(ph, problems, subtypes, htmlMessage);
         }
 
         private boolean changedFromBaseline(
@@ -558,8 +672,8 @@ public class VettingViewer<T> {
             return !baileyValue.equals(baselineInheritedValue);
         }
 
-        private Subtype firstSubtype() {
-            for (Subtype subtype : subtypes) {
+        private Subtype firstSubtype(PathNotifications n) {
+            for (Subtype subtype : n.subtypes) {
                 if (subtype != Subtype.none) {
                     return subtype;
                 }
@@ -606,7 +720,6 @@ public class VettingViewer<T> {
             if (choices.contains(NotificationCategory.missingCoverage)
                     && missingStatus == MissingStatus.ABSENT) {
                 problems.add(NotificationCategory.missingCoverage);
-                vc.problemCounter.increment(NotificationCategory.missingCoverage);
             }
             if (!CheckCLDR.LIMITED_SUBMISSION
                     && !itemsOkIfVoted
@@ -623,7 +736,6 @@ public class VettingViewer<T> {
                 if (!OutdatedPaths.NO_VALUE.equals(oldEnglishValue)) {
                     // check to see if we voted
                     problems.add(NotificationCategory.englishChanged);
-                    vc.problemCounter.increment(NotificationCategory.englishChanged);
                 }
             }
         }
@@ -642,20 +754,12 @@ public class VettingViewer<T> {
                     && (!itemsOkIfVoted || !OK_IF_VOTED.containsAll(subtypes))) {
                 problems.add(choice);
                 appendToMessage(statusMessage, htmlMessage);
-                vc.problemCounter.increment(choice);
-                for (Subtype subtype : subtypes) {
-                    vc.errorSubtypeCounter.increment(subtype);
-                }
             } else if (!onlyRecordErrors
                     && choice == NotificationCategory.warning
                     && choices.contains(NotificationCategory.warning)
                     && (!itemsOkIfVoted || !OK_IF_VOTED.containsAll(subtypes))) {
                 problems.add(choice);
                 appendToMessage(statusMessage, htmlMessage);
-                vc.problemCounter.increment(choice);
-                for (Subtype subtype : subtypes) {
-                    vc.warningSubtypeCounter.increment(subtype);
-                }
             }
         }
 
@@ -665,7 +769,6 @@ public class VettingViewer<T> {
                 case losing:
                     if (choices.contains(NotificationCategory.weLost)) {
                         problems.add(NotificationCategory.weLost);
-                        vc.problemCounter.increment(NotificationCategory.weLost);
                     }
                     String usersValue =
                             userVoteStatus.getWinningValueForUsersOrganization(
@@ -681,14 +784,12 @@ public class VettingViewer<T> {
                 case disputed:
                     if (choices.contains(NotificationCategory.hasDispute)) {
                         problems.add(NotificationCategory.hasDispute);
-                        vc.problemCounter.increment(NotificationCategory.hasDispute);
                     }
                     break;
                 case provisionalOrWorse:
                     if (missingStatus == MissingStatus.PRESENT
                             && choices.contains(NotificationCategory.notApproved)) {
                         problems.add(NotificationCategory.notApproved);
-                        vc.problemCounter.increment(NotificationCategory.notApproved);
                     }
                     break;
                 default:
@@ -793,6 +894,7 @@ public class VettingViewer<T> {
         private final Map<String, VettingViewer<T>.FileInfo> localeNameToFileInfo;
         private final String header;
         private final int configChunkSize; // Number of locales to process at once, minimum 1
+        private final int parallelism; // Number of locales processed at the same time
 
         private WriteContext(
                 Set<Entry<String, String>> entrySet,
@@ -850,6 +952,7 @@ public class VettingViewer<T> {
                         java.lang.Runtime.getRuntime()
                                 .availableProcessors(); // matches ForkJoinPool() behavior
             }
+            this.parallelism = configParallel;
             this.configChunkSize =
                     Math.max(config.getProperty("CLDR_VETTINGVIEWER_CHUNKSIZE", 1), 1);
             if (DEBUG) {
@@ -975,6 +1078,33 @@ public class VettingViewer<T> {
             if (output == null) {
                 throw new NullPointerException("output " + n + " null");
             }
+            Level level = Level.MODERN;
+            if (context.organization != null) {
+                StandardCodes sc = StandardCodes.make();
+                if (orgIsNeutralForSummary((Organization) context.organization)) {
+                    level = sc.getTargetCoverageLevel(localeID);
+                } else {
+                    level = sc.getLocaleCoverageLevel(context.organization.toString(), localeID);
+                }
+            }
+            // Read the stamp before loading anything, so that a change during the
+            // computation gives the next summary a different stamp
+            final String cacheKey = context.organization + "/" + localeID + "/" + level;
+            final String stamp =
+                    (summaryCache == null || context.localeNameToFileInfo != null)
+                            ? null
+                            : localeStamps.getStamp(localeID);
+            if (stamp != null) {
+                final LocaleSummary summary = summaryCache.get(cacheKey);
+                if (summary != null && summary.stamp.equals(stamp)) {
+                    context.outputs[n].append(summary.row);
+                    synchronized (context.totals) {
+                        context.totals.addAll(summary.counters);
+                    }
+                    progressCallback.skipLocale();
+                    return;
+                }
+            }
             // Initialize
             CLDRFile sourceFile = cldrFactory.make(localeID, true);
             CLDRFile baselineFile = null;
@@ -986,30 +1116,30 @@ public class VettingViewer<T> {
                 } catch (Exception e) {
                 }
             }
-            Level level = Level.MODERN;
-            if (context.organization != null) {
-                StandardCodes sc = StandardCodes.make();
-                if (orgIsNeutralForSummary((Organization) context.organization)) {
-                    level = sc.getTargetCoverageLevel(localeID);
-                } else {
-                    level = sc.getLocaleCoverageLevel(context.organization.toString(), localeID);
-                }
-            }
             FileInfo fileInfo = new FileInfo(localeID, level, choices, context.organization);
             fileInfo.setFiles(sourceFile, baselineFile);
             fileInfo.getFileInfo();
 
             if (context.localeNameToFileInfo != null) {
-                context.localeNameToFileInfo.put(name, fileInfo);
+                synchronized (context.localeNameToFileInfo) {
+                    context.localeNameToFileInfo.put(name, fileInfo);
+                }
             }
 
-            context.totals.addAll(fileInfo.vc);
+            synchronized (context.totals) {
+                context.totals.addAll(fileInfo.vc);
+            }
             if (DEBUG_THREADS) {
                 System.out.println(
                         "writeAction.compute(" + n + ") - got fileinfo " + name + ": " + localeID);
             }
             try {
                 writeSummaryRow(output, choices, fileInfo.vc.problemCounter, name, localeID, level);
+                if (stamp != null) {
+                    summaryCache.put(
+                            cacheKey,
+                            new LocaleSummary(stamp, context.outputs[n].toString(), fileInfo.vc));
+                }
                 if (DEBUG_THREADS) {
                     System.out.println(
                             "writeAction.compute(" + n + ") - wrote " + name + ": " + localeID);
@@ -1062,15 +1192,14 @@ public class VettingViewer<T> {
                 .new WriteContext(
                         entrySet, choices, organization, totals, localeNameToFileInfo, header);
 
+        // Each locale is a task, so idle threads steal the remaining locales. The pool is
+        // bounded, since each task holds a locale's files and test results.
         WriteAction writeAction = this.new WriteAction(context);
-        if (USE_FORKJOIN) {
-            ForkJoinPool.commonPool().invoke(writeAction);
-        } else {
-            if (DEBUG) {
-                System.out.println(
-                        "WARNING: calling writeAction.computeAll(), as the ForkJoinPool is disabled.");
-            }
-            writeAction.computeAll();
+        final ForkJoinPool pool = new ForkJoinPool(context.parallelism);
+        try {
+            pool.invoke(writeAction);
+        } finally {
+            pool.shutdownNow();
         }
         context.appendTo(output); // write all of the results together
         output.append(header); // add one header at the bottom before the Total row
@@ -1120,8 +1249,6 @@ public class VettingViewer<T> {
         return sortedNames;
     }
 
-    private final boolean USE_FORKJOIN = false;
-
     private void showSubtypes(
             Appendable output,
             Map<String, String> sortedNames,
@@ -1554,6 +1681,19 @@ public class VettingViewer<T> {
          */
         public void nudge() {}
 
+        /**
+         * Note progress on this many xpaths. The Priority Items Summary calls this from several
+         * threads at once.
+         */
+        public void nudge(int count) {
+            for (int i = 0; i < count; i++) {
+                nudge();
+            }
+        }
+
+        /** A locale's results were reused, so there will be no progress for its xpaths */
+        public void skipLocale() {}
+
         /** Called when all operations are complete. */
         public void done() {}
 
@@ -1731,6 +1871,14 @@ public class VettingViewer<T> {
         int getBaselineProblemCount(CLDRLocale cldrLocale) throws ExecutionException;
     }
 
+    public interface LocaleStamps {
+        /**
+         * @return a stamp which changes whenever the data for this locale, or for a locale it
+         *     inherits from, changes
+         */
+        String getStamp(String localeId);
+    }
+
     private boolean summarizeAllLocales = false;
 
     public void setSummarizeAllLocales(boolean b) {
@@ -15,13 +15,27 @@ public class VoterInfoList {
         clearVoterToInfo();
     }
 
-    /** Static info read from file */
-    private Map<Integer, VoterInfo> voterToInfo;
+    /** The voters, and the max vote per locale and organization, which must change together */
+    private static final class Voters {
+        final Map<Integer, VoterInfo> voterToInfo;
+        final Map<String, Map<Organization, Level>> localeToOrganizationToMaxVote;
+
+        Voters(
+                Map<Integer, VoterInfo> voterToInfo,
+                Map<String, Map<Organization, Level>> localeToOrganizationToMaxVote) {
+            this.voterToInfo = voterToInfo;
+            this.localeToOrganizationToMaxVote = localeToOrganizationToMaxVote;
+        }
+    }
 
-    private Map<String, Map<Organization, Level>> localeToOrganizationToMaxVote;
+    /**
+     * Immutable, and replaced as a whole by setVoterToInfo, so that readers, such as VoteResolver
+     * for every vote, don't need a lock.
+     */
+    private volatile Voters voters;
 
-    synchronized Map<Integer, VoterInfo> getVoterToInfo() {
-        return voterToInfo;
+    Map<Integer, VoterInfo> getVoterToInfo() {
+        return voters.voterToInfo;
     }
 
     /** Clear out all users. */
@@ -37,8 +51,8 @@ public class VoterInfoList {
     /**
      * Set the voter info.
      *
-     * <p>Synchronized, however, once this is called, you must NOT change the contents of your copy
-     * of newVoterToInfo. You can create a whole new one and set it.
+     * <p>Once this is called, you must NOT change the contents of your copy of newVoterToInfo. You
+     * can create a whole new one and set it.
      */
     public VoterInfoList setVoterToInfo(Map<Integer, VoterInfo> newVoterToInfo) {
         computeMaxVotesAndSet(newVoterToInfo);
@@ -80,11 +94,11 @@ public class VoterInfoList {
             }
         }
         // setters
-        synchronized (this) {
-            CldrUtility.protectCollection(newLocaleToOrganizationToMaxVote);
-            localeToOrganizationToMaxVote = newLocaleToOrganizationToMaxVote;
-            voterToInfo = Collections.unmodifiableMap(newVoterToInfo);
-        }
+        CldrUtility.protectCollection(newLocaleToOrganizationToMaxVote);
+        voters =
+                new Voters(
+                        Collections.unmodifiableMap(newVoterToInfo),
+                        newLocaleToOrganizationToMaxVote);
     }
 
     /**
@@ -176,7 +190,7 @@ public class VoterInfoList {
 
     public Map<Organization, Level> getOrganizationToMaxVote(String locale) {
         locale = locale.split("_")[0]; // take base language
-        Map<Organization, Level> result = localeToOrganizationToMaxVote.get(locale);
+        Map<Organization, Level> result = voters.localeToOrganizationToMaxVote.get(locale);
         if (result == null) {
             result = Collections.emptyMap();
         }
@@ -200,6 +214,6 @@ public class VoterInfoList {
     }
 
     public VoterInfo get(int voter) {
-        return voterToInfo.get(voter);
+        return voters.voterToInfo.get(voter);
     }
 }
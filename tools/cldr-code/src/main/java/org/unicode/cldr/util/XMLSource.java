@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.util.CLDRFile.DraftStatus;
@@ -50,7 +51,7 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
     private String localeID;
     private boolean nonInheriting;
     private TreeMap<String, String> aliasCache;
-    private LinkedHashMap<String, List<String>> reverseAliasCache;
+    private volatile LinkedHashMap<String, List<String>> reverseAliasCache;
     protected boolean locked;
     transient String[] fixedPath = new String[1];
 
@@ -850,7 +851,12 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return source == null ? constructedItems : source;
         }
 
-        Map<String, String> getFullPathAtDPathCache = new HashMap<>();
+        /*
+         * Concurrent, since a resolving source may be read from several threads at once,
+         * such as when the Survey Tool resolves the votes for a locale in parallel.
+         * Only non-null values are cached.
+         */
+        Map<String, String> getFullPathAtDPathCache = new ConcurrentHashMap<>();
 
         @Override
         public String getFullPathAtDPath(String xpath) {
@@ -1346,7 +1352,7 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return sources.get("root").getReverseAliases();
         }
 
-        private transient Set<String> cachedKeySet = null;
+        private transient volatile Set<String> cachedKeySet = null;
 
         /**
          * @return an iterator over all the xpaths in this XMLSource.
@@ -1357,11 +1363,12 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
         }
 
         private Set<String> getCachedKeySet() {
-            if (cachedKeySet == null) {
-                cachedKeySet = fillKeys();
-                cachedKeySet = Collections.unmodifiableSet(cachedKeySet);
+            Set<String> result = cachedKeySet;
+            if (result == null) {
+                result = Collections.unmodifiableSet(fillKeys());
+                cachedKeySet = result;
             }
-            return cachedKeySet;
+            return result;
         }
 
         @Override
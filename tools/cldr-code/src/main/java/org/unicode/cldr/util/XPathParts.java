@@ -6,6 +6,9 @@
  */
 package org.unicode.cldr.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -25,7 +28,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Parser for XPath
@@ -35,7 +38,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * on xPath. Each Element object has an "element" string such as "ldml", "characters", or
  * "exemplarCharacters", plus attributes such as a Map from key "type" to value "auxiliary".
  *
- * <p>Caches values for fast lookup.
+ * <p>Caches values for fast lookup. The cache is bounded by the total length of the cached paths,
+ * CLDR_XPATH_CACHE_MAX_CHARS (a system property), so that it doesn't grow without limit in a
+ * long-running process. Frozen instances share their attribute maps with each other.
  *
  * <p>(If caching isn't needed, such as with supplemental data at static init time, see {@link
  * SimpleXPathParts#getFrozenInstance(String)}
@@ -50,7 +55,29 @@ public final class XPathParts extends XPathParser
 
     private DtdData dtdData = null;
 
-    private static final Map<String, XPathParts> cache = new ConcurrentHashMap<>();
+    /** Max total length of the paths in the cache, in chars */
+    private static final long CACHE_MAX_CHARS =
+            Long.getLong("CLDR_XPATH_CACHE_MAX_CHARS", 50_000_000L);
+
+    /** Rough size of one cache entry besides the path, in chars */
+    private static final int CACHE_ENTRY_OVERHEAD_CHARS = 64;
+
+    private static final Cache<String, XPathParts> cache =
+            CacheBuilder.newBuilder()
+                    .maximumWeight(CACHE_MAX_CHARS)
+                    .weigher(
+                            (String path, XPathParts parts) ->
+                                    path.length() + CACHE_ENTRY_OVERHEAD_CHARS)
+                    .recordStats()
+                    .build();
+
+    /**
+     * The attribute maps of frozen Elements, so that equal maps are shared. Many paths have the
+     * same attributes, such as [@type="gregorian"]. The key is the list of attributes and values,
+     * in order. The values are weak, so maps no longer used by any Element are dropped.
+     */
+    private static final Cache<List<String>, ImmutableMap<String, String>> attributeMaps =
+            CacheBuilder.newBuilder().weakValues().build();
 
     /**
      * Construct a new empty XPathParts object.
@@ -896,7 +923,7 @@ public final class XPathParts extends XPathParser
 
         public Element makeImmutable() {
             if (attributes != null && !(attributes instanceof ImmutableMap)) {
-                attributes = ImmutableMap.copyOf(attributes);
+                attributes = getSharedAttributes(attributes);
             }
 
             return this;
@@ -1210,16 +1237,57 @@ public final class XPathParts extends XPathParser
     }
 
     public static XPathParts getFrozenInstance(String path) {
-        XPathParts result = cache.get(path);
+        XPathParts result = cache.getIfPresent(path);
         if (result == null) {
             // CLDR-17504: This can recursively create new paths during creation so MUST NOT
             // happen inside the lambda of computeIfAbsent(), but freezing the path is safe.
             XPathParts unfrozen = new XPathParts().addInternal(path, true);
-            result = cache.computeIfAbsent(path, (String p) -> unfrozen.freeze());
+            result = cache.asMap().computeIfAbsent(path, (String p) -> unfrozen.freeze());
         }
         return result;
     }
 
+    /**
+     * @return hit, miss, and eviction counts for the cache of frozen instances
+     */
+    public static CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return a description of the caches, for logging
+     */
+    public static String getCacheStatus() {
+        return "XPathParts cache: "
+                + cache.size()
+                + " paths, max "
+                + CACHE_MAX_CHARS
+                + " chars, "
+                + cache.stats()
+                + "; shared attribute maps: "
+                + attributeMaps.size();
+    }
+
+    /**
+     * Get an immutable copy of the given attributes, shared with any equal frozen attributes
+     *
+     * @param attributes the attributes, in order
+     * @return the shared map, with the same order
+     */
+    private static ImmutableMap<String, String> getSharedAttributes(
+            Map<String, String> attributes) {
+        final List<String> key = new ArrayList<>(attributes.size() * 2);
+        for (Entry<String, String> e : attributes.entrySet()) {
+            key.add(e.getKey());
+            key.add(e.getValue());
+        }
+        try {
+            return attributeMaps.get(key, () -> ImmutableMap.copyOf(attributes));
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException(e); // not expected, copyOf doesn't throw
+        }
+    }
+
     public DtdData getDtdData() {
         return dtdData;
     }
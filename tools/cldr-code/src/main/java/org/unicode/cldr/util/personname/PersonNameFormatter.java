@@ -2,6 +2,8 @@ package org.unicode.cldr.util.personname;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Comparators;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableBiMap;
@@ -33,6 +35,7 @@ import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +44,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -787,6 +791,7 @@ public class PersonNameFormatter {
         private final int rank;
         private final ImmutableList<NamePatternElement> elements;
         private final ImmutableSet<Field> fields;
+        private final boolean hasNonInitialGiven;
 
         public Set<Field> getFields() {
             return fields;
@@ -905,6 +910,10 @@ public class PersonNameFormatter {
                 ImmutableSet.of(Modifier.initialCap, Modifier.initial);
 
         public boolean hasNonInitialGiven() {
+            return hasNonInitialGiven;
+        }
+
+        private boolean computeHasNonInitialGiven() {
             if (!getFields().contains(Field.given)) {
                 return false;
             }
@@ -998,6 +1007,7 @@ public class PersonNameFormatter {
                 }
             }
             this.fields = ImmutableSet.copyOf(result);
+            this.hasNonInitialGiven = computeHasNonInitialGiven();
         }
 
         /** convenience method for testing */
@@ -1545,14 +1555,32 @@ public class PersonNameFormatter {
         private final ImmutableListMultimap<FormatParameters, NamePattern>
                 parameterMatcherToNamePattern;
 
+        /**
+         * The result of getBestMatchSet for each of FormatParameters.all(), so that formatting
+         * with fully specified parameters doesn't scan parameterMatcherToNamePattern
+         */
+        private final ImmutableMap<FormatParameters, Collection<NamePattern>> resolvedMatches;
+
+        /** name locale → order, as derived by deriveNameOrder */
+        private final Map<ULocale, Order> nameLocaleToOrder = new ConcurrentHashMap<>();
+
         public NamePattern getBestMatch(
                 NameObject nameObject, FormatParameters nameFormatParameters) {
             nameFormatParameters = deriveNameOrder(nameObject, nameFormatParameters);
+            return getBestMatch(
+                    nameObject.getAvailableFields(), getMatchingPatterns(nameFormatParameters));
+        }
 
-            NamePattern result = null;
-
-            Collection<NamePattern> namePatterns =
-                    getBestMatchSet(parameterMatcherToNamePattern, nameFormatParameters);
+        /**
+         * @return the patterns matching the parameters, as with getBestMatchSet
+         */
+        private Collection<NamePattern> getMatchingPatterns(FormatParameters nameFormatParameters) {
+            Collection<NamePattern> namePatterns = resolvedMatches.get(nameFormatParameters);
+            if (namePatterns == null) {
+                namePatterns =
+                        PersonNameFormatter.getBestMatchSet(
+                                parameterMatcherToNamePattern, nameFormatParameters);
+            }
             if (namePatterns == null) {
                 // Internal error, should never happen with valid data
                 throw new IllegalArgumentException(
@@ -1561,7 +1589,12 @@ public class PersonNameFormatter {
                                 + " in "
                                 + parameterMatcherToNamePattern);
             }
-            Set<Field> nameFields = nameObject.getAvailableFields();
+            return namePatterns;
+        }
+
+        private static NamePattern getBestMatch(
+                Set<Field> nameFields, Collection<NamePattern> namePatterns) {
+            NamePattern result = null;
             int bestMatchSize = -1;
 
             for (NamePattern pattern : namePatterns) {
@@ -1594,39 +1627,51 @@ public class PersonNameFormatter {
             if (nameFormatParameters.order != null) {
                 return nameFormatParameters;
             } else {
-                // Use CLDRLocale for getParent because we may update the getParent relation before
-                // ICU has a chance to.
-                Order mappedOrder = null;
-                LanguageTagParser ltp = new LanguageTagParser();
-                CLDRLocale L1 = CLDRLocale.getInstance(nameObject.getNameLocale());
-
-                while (true) {
-                    CLDRLocale L2 =
-                            CLDRLocale.getInstance(
-                                    ltp.set(L1.toString())
-                                            // should be able to set an ltp from a CLDRLocale
-                                            .setLanguage("und")
-                                            .toString()); // should be able to create a CLDRLocale
-                    // from an ltp
-                    for (CLDRLocale L : Arrays.asList(L1, L2)) {
-                        // localeToOrder maps locales to orders, so is the equivalent of looking up
-                        // first in one
-                        // then in the other. Since the same string can't be in both, the order
-                        // actually doesn't matter.
-                        localeToOrder.get(new ULocale(L.toString()));
-                        if (mappedOrder != null) {
-                            break;
-                        }
+                final ULocale nameLocale = nameObject.getNameLocale();
+                Order mappedOrder = (nameLocale == null) ? null : nameLocaleToOrder.get(nameLocale);
+                if (mappedOrder == null) {
+                    mappedOrder = computeNameOrder(nameLocale);
+                    if (nameLocale != null) {
+                        nameLocaleToOrder.put(nameLocale, mappedOrder);
                     }
+                }
+                return nameFormatParameters.setOrder(mappedOrder);
+            }
+        }
 
-                    L1 = L1.getParent();
-                    if (L1 == null) {
-                        mappedOrder = Order.givenFirst;
+        private Order computeNameOrder(ULocale nameLocale) {
+            // Use CLDRLocale for getParent because we may update the getParent relation before
+            // ICU has a chance to.
+            Order mappedOrder = null;
+            LanguageTagParser ltp = new LanguageTagParser();
+            CLDRLocale L1 = CLDRLocale.getInstance(nameLocale);
+
+            while (true) {
+                CLDRLocale L2 =
+                        CLDRLocale.getInstance(
+                                ltp.set(L1.toString())
+                                        // should be able to set an ltp from a CLDRLocale
+                                        .setLanguage("und")
+                                        .toString()); // should be able to create a CLDRLocale
+                // from an ltp
+                for (CLDRLocale L : Arrays.asList(L1, L2)) {
+                    // localeToOrder maps locales to orders, so is the equivalent of looking up
+                    // first in one
+                    // then in the other. Since the same string can't be in both, the order
+                    // actually doesn't matter.
+                    localeToOrder.get(new ULocale(L.toString()));
+                    if (mappedOrder != null) {
                         break;
                     }
                 }
-                return nameFormatParameters.setOrder(mappedOrder);
+
+                L1 = L1.getParent();
+                if (L1 == null) {
+                    mappedOrder = Order.givenFirst;
+                    break;
+                }
             }
+            return mappedOrder;
         }
 
         /**
@@ -1697,6 +1742,16 @@ public class PersonNameFormatter {
             }
             this.parameterMatcherToNamePattern =
                     ImmutableListMultimap.copyOf(formatParametersToNamePattern);
+
+            ImmutableMap.Builder<FormatParameters, Collection<NamePattern>> resolved =
+                    ImmutableMap.builder();
+            for (FormatParameters parameters : FormatParameters.all()) {
+                resolved.put(
+                        parameters,
+                        PersonNameFormatter.getBestMatchSet(
+                                parameterMatcherToNamePattern, parameters));
+            }
+            this.resolvedMatches = resolved.build();
         }
 
         public Map<ULocale, Order> getLocaleToOrder() {
@@ -2037,6 +2092,73 @@ public class PersonNameFormatter {
         return bestPattern.format(nameObject, nameFormatParameters, fallbackFormatter);
     }
 
+    /**
+     * Format many names with many parameters in one pass. The name order for each name, and the
+     * matching patterns for each parameters, are only looked up once.
+     *
+     * @param nameObjects the names to format
+     * @param parametersList the parameters to format with, such as FormatParameters.allCldr()
+     * @return for each parameters, the formatted names in the same order as nameObjects
+     */
+    public Map<FormatParameters, List<String>> formatAll(
+            List<? extends NameObject> nameObjects, Collection<FormatParameters> parametersList) {
+        final FormatParameters anyOrder = new FormatParameters(null, null, null, null);
+        final Order[] nameOrders = new Order[nameObjects.size()];
+        for (int i = 0; i < nameOrders.length; ++i) {
+            nameOrders[i] =
+                    namePatternMap.deriveNameOrder(nameObjects.get(i), anyOrder).getOrder();
+        }
+        final Map<FormatParameters, List<String>> result = new LinkedHashMap<>();
+        for (FormatParameters parameters : parametersList) {
+            final List<String> formatted = new ArrayList<>(nameOrders.length);
+            Collection<NamePattern> patterns =
+                    parameters.getOrder() == null
+                            ? null
+                            : namePatternMap.getMatchingPatterns(parameters);
+            for (int i = 0; i < nameOrders.length; ++i) {
+                final NameObject nameObject = nameObjects.get(i);
+                Collection<NamePattern> namePatterns = patterns;
+                if (namePatterns == null) {
+                    namePatterns =
+                            namePatternMap.getMatchingPatterns(
+                                    parameters.setOrder(nameOrders[i]));
+                }
+                // as in format(), the pattern gets the parameters without the derived order
+                formatted.add(
+                        NamePatternData.getBestMatch(nameObject.getAvailableFields(), namePatterns)
+                                .format(nameObject, parameters, fallbackFormatter));
+            }
+            result.put(parameters, formatted);
+        }
+        return result;
+    }
+
+    /** Formatters for frozen CLDRFiles, which can't change; the keys are weak */
+    private static final Cache<CLDRFile, PersonNameFormatter> FORMATTERS =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    /** Sample names for frozen CLDRFiles */
+    private static final Cache<CLDRFile, Map<SampleType, SimpleNameObject>> SAMPLE_NAMES =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * Get a formatter for a CLDR file. For a frozen file, the formatter is built once and shared;
+     * otherwise it is built each time, since the file can change.
+     *
+     * @internal
+     */
+    public static PersonNameFormatter getInstance(CLDRFile cldrFile) {
+        if (!cldrFile.isFrozen()) {
+            return new PersonNameFormatter(cldrFile);
+        }
+        PersonNameFormatter result = FORMATTERS.getIfPresent(cldrFile);
+        if (result == null) {
+            result = new PersonNameFormatter(cldrFile);
+            FORMATTERS.put(cldrFile, result);
+        }
+        return result;
+    }
+
     public String formatWithoutSuperscripts(
             NameObject nameObject, FormatParameters nameFormatParameters) {
         return format(nameObject, nameFormatParameters)
@@ -2111,7 +2233,24 @@ public class PersonNameFormatter {
     }
 
     /**
-     * Utility for getting sample names. DOES NOT CACHE
+     * Utility for getting sample names, like loadSampleNames, but cached for frozen files.
+     *
+     * @internal
+     */
+    public static Map<SampleType, SimpleNameObject> getSampleNames(CLDRFile cldrFile) {
+        if (!cldrFile.isFrozen()) {
+            return loadSampleNames(cldrFile);
+        }
+        Map<SampleType, SimpleNameObject> result = SAMPLE_NAMES.getIfPresent(cldrFile);
+        if (result == null) {
+            result = loadSampleNames(cldrFile);
+            SAMPLE_NAMES.put(cldrFile, result);
+        }
+        return result;
+    }
+
+    /**
+     * Utility for getting sample names. DOES NOT CACHE; see getSampleNames
      *
      * @param cldrFile
      * @return
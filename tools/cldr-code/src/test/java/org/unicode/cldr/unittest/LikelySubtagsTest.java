@@ -16,6 +16,7 @@ import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.util.VersionInfo;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -23,6 +24,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 import org.unicode.cldr.draft.ScriptMetadata;
 import org.unicode.cldr.draft.ScriptMetadata.Info;
 import org.unicode.cldr.tool.LikelySubtags;
@@ -44,6 +46,7 @@ import org.unicode.cldr.util.ScriptToExemplars;
 import org.unicode.cldr.util.StandardCodes;
 import org.unicode.cldr.util.StandardCodes.LstrType;
 import org.unicode.cldr.util.SupplementalDataInfo;
+import org.unicode.cldr.util.Timer;
 import org.unicode.cldr.util.Validity;
 import org.unicode.cldr.util.Validity.Status;
 
@@ -259,6 +262,43 @@ public class LikelySubtagsTest extends TestFmwk {
         }
     }
 
+    /**
+     * Maximize and minimize from many threads, checking against an unshared instance, and log the
+     * times without and with the memo.
+     */
+    public void TestConcurrentMaximize() {
+        final Set<String> tags = new TreeSet<>(likely.keySet());
+        tags.addAll(CLDR_CONFIG.getCldrFactory().getAvailable());
+        tags.remove("root");
+        // a copy of the data, so that this has its own memo
+        final LikelySubtags unshared = new LikelySubtags(new TreeMap<>(likely));
+        final Map<String, String> expected = new TreeMap<>();
+        for (String tag : tags) {
+            expected.put(tag, maxAndMin(unshared, tag));
+        }
+        assertTrue("setFavorRegion makes a new instance", LIKELY.setFavorRegion(true) != LIKELY);
+        assertFalse("original is unchanged", LIKELY.isFavorRegion());
+        for (String pass : Arrays.asList("first", "memoized")) {
+            final Timer timer = new Timer();
+            timer.start();
+            final Set<String> failures =
+                    tags.parallelStream()
+                            .filter(tag -> !expected.get(tag).equals(maxAndMin(LIKELY, tag)))
+                            .collect(Collectors.toSet());
+            timer.stop();
+            assertEquals(pass + " pass, failures", Collections.emptySet(), failures);
+            logln(pass + " pass, " + tags.size() + " tags: " + timer);
+        }
+    }
+
+    private static String maxAndMin(LikelySubtags likelySubtags, String tag) {
+        return likelySubtags.maximize(tag)
+                + " "
+                + likelySubtags.minimize(tag)
+                + " "
+                + likelySubtags.setFavorRegion(true).minimize(tag);
+    }
+
     static Set<String> exceptions =
             new HashSet<>(
                     Arrays.asList(
@@ -3,6 +3,7 @@ package org.unicode.cldr.unittest;
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Multimap;
@@ -15,13 +16,16 @@ import com.ibm.icu.impl.Utility;
 import com.ibm.icu.text.Collator;
 import com.ibm.icu.text.UnicodeSet;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -39,6 +43,7 @@ import org.unicode.cldr.util.CldrUtility;
 import org.unicode.cldr.util.Emoji;
 import org.unicode.cldr.util.Factory;
 import org.unicode.cldr.util.Level;
+import org.unicode.cldr.util.MemoryHelper;
 import org.unicode.cldr.util.Pair;
 import org.unicode.cldr.util.PathHeader;
 import org.unicode.cldr.util.PathHeader.PageId;
@@ -105,6 +110,109 @@ public class TestAnnotations extends TestFmwkPlus {
         }
     }
 
+    /** Keywords and names are shared between locales, not held once per locale */
+    public void TestSharedStrings() {
+        final Annotations a =
+                new Annotations(
+                        new TreeSet<>(Arrays.asList(new String("cat"), new String("pet"))),
+                        new String("cat face"));
+        final Annotations b =
+                new Annotations(
+                        new TreeSet<>(Arrays.asList(new String("cat"), new String("pet"))),
+                        new String("cat face"));
+        assertTrue("same keyword set", a.getKeywords() == b.getKeywords());
+        assertTrue("same name", a.getShortName() == b.getShortName());
+
+        // order is kept, even if an equal set was seen first
+        final Annotations c =
+                new Annotations(new LinkedHashSet<>(Arrays.asList("pet", "cat")), null);
+        assertEquals("order", Arrays.asList("pet", "cat"), ImmutableList.copyOf(c.getKeywords()));
+
+        // resolved data still combines the parent's
+        final UnicodeMap<Annotations> enGb = Annotations.getData("en_GB");
+        assertTrue(
+                "en_GB inherits",
+                enGb.keySet().containsAll(eng.getExplicitValues().keySet()));
+    }
+
+    /**
+     * Load all the annotation locales, and log the heap they use, and the heap that keywords and
+     * names would take if they weren't shared. Checks that equal strings are the same instance.
+     */
+    public void TestSharedStringsMemory() {
+        final Runtime r = Runtime.getRuntime();
+        final long before = usedHeap(r);
+        final Set<Annotations> values = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String locale : Annotations.getAvailableLocales()) {
+            final UnicodeMap<Annotations> map = Annotations.getData(locale);
+            for (String key : map.keySet()) {
+                values.add(map.get(key));
+            }
+        }
+        final long loaded = usedHeap(r) - before;
+
+        final Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Set<String>> keywordSets = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<String> distinct = new HashSet<>();
+        long references = 0;
+        long unsharedBytes = 0;
+        for (Annotations a : values) {
+            keywordSets.add(a.getKeywords());
+            final List<String> items = new ArrayList<>(a.getKeywords());
+            if (a.getShortName() != null) {
+                items.add(a.getShortName());
+            }
+            for (String item : items) {
+                references++;
+                unsharedBytes += stringBytes(item);
+                strings.add(item);
+                distinct.add(item);
+            }
+        }
+        long sharedBytes = 0;
+        for (String item : strings) {
+            sharedBytes += stringBytes(item);
+        }
+        logln(
+                "Annotations for "
+                        + Annotations.getAvailableLocales().size()
+                        + " locales: heap "
+                        + MemoryHelper.humanReadableByteCountSI(loaded)
+                        + "; "
+                        + values.size()
+                        + " values, "
+                        + keywordSets.size()
+                        + " keyword sets; "
+                        + references
+                        + " keywords and names in "
+                        + strings.size()
+                        + " strings: "
+                        + MemoryHelper.humanReadableByteCountSI(sharedBytes)
+                        + " shared, instead of "
+                        + MemoryHelper.humanReadableByteCountSI(unsharedBytes)
+                        + " unshared");
+        assertEquals("equal strings are shared", distinct.size(), strings.size());
+        assertTrue("keyword sets are shared", keywordSets.size() < values.size());
+    }
+
+    /** Heap in use, after garbage collection */
+    private static long usedHeap(Runtime r) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return r.totalMemory() - r.freeMemory();
+    }
+
+    /**
+     * Estimated heap size of a string with compressed oops: the String object, and its byte array
+     * of Latin-1 or UTF-16 code units, each rounded up to 8 bytes
+     */
+    private static long stringBytes(String s) {
+        final boolean latin1 = CharMatcher.inRange('\u0000', '\u00FF').matchesAllOf(s);
+        final long array = 16 + (latin1 ? s.length() : 2L * s.length());
+        return 24 + ((array + 7) / 8) * 8;
+    }
+
     final AnnotationSet eng = Annotations.getDataSet("en");
 
     public void TestNames() {
@@ -1,7 +1,9 @@
 package org.unicode.cldr.unittest;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.google.common.collect.TreeMultimap;
@@ -16,6 +18,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -55,6 +58,7 @@ import org.unicode.cldr.util.PatternCache;
 import org.unicode.cldr.util.PatternPlaceholders;
 import org.unicode.cldr.util.PatternPlaceholders.PlaceholderStatus;
 import org.unicode.cldr.util.SimpleFactory;
+import org.unicode.cldr.util.SimpleXMLSource;
 import org.unicode.cldr.util.SupplementalDataInfo;
 import org.unicode.cldr.util.SupplementalDataInfo.PluralInfo;
 import org.unicode.cldr.util.SupplementalDataInfo.PluralType;
@@ -520,6 +524,61 @@ public class TestCLDRFile extends TestFmwk {
         logln("Elapsed: " + deltaTime / 1000.0 + " seconds");
     }
 
+    /** Frozen files iterate from cached sorted paths; the results are the same as unfrozen */
+    public void TestSortedIterator() {
+        final CLDRFile frozen = testInfo.getEnglish();
+        final CLDRFile thawed = frozen.cloneAsThawed();
+        final Comparator<String> comparator = frozen.getComparator();
+        for (String prefix :
+                new String[] {
+                    null,
+                    "",
+                    "//ldml/localeDisplayNames/",
+                    "//ldml/localeDisplayNames/languages/language[@type=\"e",
+                    "//ldml/dates/calendars/calendar[@type=\"gregorian\"]",
+                    "//ldml/numbers/currencies/currency[@type=\"USD\"]/",
+                    "//ldml/noSuchElement",
+                    "//zzz",
+                }) {
+            assertEquals(
+                    "ordered " + prefix,
+                    ImmutableList.copyOf(thawed.iterator(prefix, comparator)),
+                    ImmutableList.copyOf(frozen.iterator(prefix, comparator)));
+            if (prefix != null && !prefix.isEmpty()) {
+                assertEquals(
+                        "prefix " + prefix,
+                        ImmutableSet.copyOf(thawed.iterator(prefix)),
+                        ImmutableSet.copyOf(frozen.iterator(prefix)));
+            }
+        }
+    }
+
+    /** The value index is kept up to date, and isn't shared with thawed copies */
+    public void TestPathsWithValueIndex() {
+        final String a = "//ldml/localeDisplayNames/languages/language[@type=\"aa\"]";
+        final String b = "//ldml/localeDisplayNames/languages/language[@type=\"ab\"]";
+        final SimpleXMLSource source = new SimpleXMLSource("xx");
+        source.putValueAtDPath(a, "Foo");
+        final Set<String> result = new HashSet<>();
+        source.getPathsWithValue("foo", "", result);
+        assertEquals("built", Set.of(a), result);
+
+        source.putValueAtDPath(b, "Foo");
+        source.putValueAtDPath(a, "Bar");
+        result.clear();
+        source.getPathsWithValue("Foo", "//ldml/localeDisplayNames/", result);
+        assertEquals("updated", Set.of(b), result);
+
+        final SimpleXMLSource copy = (SimpleXMLSource) source.cloneAsThawed();
+        copy.removeValueAtDPath(b);
+        result.clear();
+        source.getPathsWithValue("Foo", "", result);
+        assertEquals("original unchanged", Set.of(b), result);
+        result.clear();
+        copy.getPathsWithValue("Foo", "", result);
+        assertEquals("copy changed", Set.of(), result);
+    }
+
     private String pathsWithValues(String value, Set<String> paths) {
         return paths.size()
                 + " paths with: <"
@@ -18,6 +18,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
@@ -185,6 +186,42 @@ public class TestCheckCLDR extends TestFmwk {
         }
     }
 
+    /** Checks from several threads, each with its own CheckCLDR, match checks from one thread */
+    public void TestTestCacheConcurrent() {
+        final String localeString = "fr";
+        final CLDRLocale locale = CLDRLocale.getInstance(localeString);
+        final CheckCLDR.Options options = new Options(locale, Phase.SUBMISSION, "default", "basic");
+        // separate TestCaches, so that the bundles don't share results
+        final TestResultBundle serial = new TestCache(testInfo.getCldrFactory()).getBundle(options);
+        final TestResultBundle concurrent =
+                new TestCache(testInfo.getCldrFactory()).getBundle(options);
+        final CLDRFile cldrFile = testInfo.getCLDRFile(localeString, true);
+        final List<String> paths = new ArrayList<>();
+        for (String path : cldrFile) {
+            paths.add(path);
+            if (paths.size() == 500) {
+                break;
+            }
+        }
+        final Map<String, String> expected = new TreeMap<>();
+        for (String path : paths) {
+            final List<CheckStatus> result = new ArrayList<>();
+            serial.check(path, result, cldrFile.getStringValue(path));
+            expected.put(path, result.toString());
+        }
+        final Map<String, String> actual = new ConcurrentHashMap<>();
+        paths.parallelStream()
+                .forEach(
+                        path -> {
+                            final List<CheckStatus> result = new ArrayList<>();
+                            concurrent.check(path, result, cldrFile.getStringValue(path));
+                            actual.put(path, result.toString());
+                        });
+        assertEquals("concurrent checks", expected, new TreeMap<>(actual));
+        logln("CheckCLDR objects for concurrent checks: " + concurrent.getCheckerCount());
+        assertTrue("at least one CheckCLDR", concurrent.getCheckerCount() >= 1);
+    }
+
     /** Test the "collisionless" error/warning messages. */
     public static final String INDIVIDUAL_TESTS =
             ".*(CheckCasing|CheckCurrencies|CheckDates|CheckExemplars|CheckForCopy|CheckForExemplars|CheckMetazones|CheckNumbers)";
@@ -45,6 +45,7 @@ import org.unicode.cldr.util.GrammarInfo.CaseValues;
 import org.unicode.cldr.util.GrammarInfo.GrammaticalFeature;
 import org.unicode.cldr.util.GrammarInfo.GrammaticalScope;
 import org.unicode.cldr.util.GrammarInfo.GrammaticalTarget;
+import org.unicode.cldr.util.ICUServiceBuilder;
 import org.unicode.cldr.util.Level;
 import org.unicode.cldr.util.Organization;
 import org.unicode.cldr.util.Pair;
@@ -687,6 +688,30 @@ public class TestExampleGenerator extends TestFmwk {
         return result;
     }
 
+    /** The example cache stays within its size limit, and evicting doesn't change examples */
+    public void TestExampleCacheLimit() {
+        final CLDRFile cldrFile = info.getCLDRFile("fr", true);
+        final ExampleGenerator bounded = new ExampleGenerator(cldrFile, info.getEnglish());
+        final long maxChars = 20_000;
+        bounded.setExampleCacheMaxChars(maxChars);
+        final ExampleGenerator uncached = new ExampleGenerator(cldrFile, info.getEnglish());
+        uncached.setCachingEnabled(false);
+        final List<String> paths = new ArrayList<>();
+        cldrFile.forEach(paths::add);
+        final int count = bounded.prebuildExamples(paths);
+        assertTrue("prebuilt some examples", count > 0);
+        assertTrue(
+                "cache within limit: " + bounded.getExampleCacheStatus(),
+                bounded.getExampleCacheChars() <= maxChars);
+        for (String path : paths.subList(0, Math.min(paths.size(), 500))) {
+            final String value = cldrFile.getStringValue(path);
+            assertEquals(
+                    path,
+                    uncached.getExampleHtml(path, value),
+                    bounded.getExampleHtml(path, value));
+        }
+    }
+
     public void TestEllipsis() {
         ExampleGenerator exampleGenerator = getExampleGenerator("it");
         String[][] tests = {
@@ -1208,6 +1233,44 @@ public class TestExampleGenerator extends TestFmwk {
         }
     }
 
+    /**
+     * ICUServiceBuilder.clearCache(xpath), as used by ExampleGenerator.updateCache, rebuilds the
+     * formats that depend on the changed path, and keeps the others.
+     */
+    public void TestICUServiceBuilderClearCache() {
+        final Factory cldrFactory = CLDRConfig.getInstance().getCldrFactory();
+        final CLDRFile enWritable = cldrFactory.make("en", false).cloneAsThawed();
+        final TestFactory factory = new TestFactory();
+        factory.addFile(cldrFactory.make("root", false));
+        factory.addFile(enWritable);
+        final ICUServiceBuilder isb = new ICUServiceBuilder().setCldrFile(factory.make("en", true));
+
+        final String datePath =
+                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateFormats/dateFormatLength[@type=\"short\"]/dateFormat[@type=\"standard\"]/pattern[@type=\"standard\"]";
+        final String decimalPath = "//ldml/numbers/symbols[@numberSystem=\"latn\"]/decimal";
+        final int SHORT = 1, NONE = 0;
+        assertEquals(
+                "date pattern",
+                enWritable.getStringValue(datePath),
+                isb.getDateFormat("gregorian", SHORT, NONE).toPattern());
+        assertEquals("number", "1.50", isb.getNumberFormat("0.00").format(1.5));
+
+        enWritable.add(datePath, "d.M.yy");
+        enWritable.add(decimalPath, ",");
+
+        // a calendar path clears the date formats, but not the number formats
+        isb.clearCache(datePath);
+        assertEquals(
+                "date pattern rebuilt",
+                "d.M.yy",
+                isb.getDateFormat("gregorian", SHORT, NONE).toPattern());
+        assertEquals("number kept", "1.50", isb.getNumberFormat("0.00").format(1.5));
+
+        // a number path clears the number formats
+        isb.clearCache(decimalPath);
+        assertEquals("number rebuilt", "1,50", isb.getNumberFormat("0.00").format(1.5));
+    }
+
     public void TestInflectedUnitExamples() {
         String[][] deTests = {
             {
@@ -1,17 +1,21 @@
 package org.unicode.cldr.unittest;
 
 import com.ibm.icu.util.Output;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.IntStream;
 import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.CLDRFile;
 import org.unicode.cldr.util.DtdData;
 import org.unicode.cldr.util.DtdData.AttributeValueComparator;
 import org.unicode.cldr.util.DtdType;
+import org.unicode.cldr.util.FlatXPath;
 import org.unicode.cldr.util.Timer;
 import org.unicode.cldr.util.XPathParts;
 
@@ -127,6 +131,74 @@ public class TestPerf extends TestFmwkPlus {
         assertEquals("", elementSize, size / ITERATIONS);
     }
 
+    /** Today's parse-and-clone route to a distinguishing path, against the flat one */
+    public void TestFlatXPathDistinguishing() {
+        Timer t = new Timer();
+        t.start();
+        int size = 0;
+        for (String p : testPaths) {
+            for (int i = 0; i < ITERATIONS; ++i) {
+                XPathParts xpp = XPathParts.getFrozenInstance(p).cloneAsThawed();
+                size += xpp.toString().length();
+            }
+        }
+        long partsDuration = t.stop();
+        logln("XPathParts parse and clone: " + t.toString(testPaths.size() * ITERATIONS));
+
+        t.start();
+        int flatSize = 0;
+        for (String p : testPaths) {
+            for (int i = 0; i < ITERATIONS; ++i) {
+                String d = FlatXPath.getDistinguishingXPath(p);
+                flatSize += (d == null ? p : d).length();
+            }
+        }
+        long flatDuration = t.stop();
+        logln("FlatXPath distinguishing: " + t.toString(testPaths.size() * ITERATIONS));
+        assertTrue("some output", size > 0 && flatSize > 0);
+        assertRelation("FlatXPath", true, flatDuration / ITERATIONS / 1000000.0, LEQ, 50.0);
+        assertRelation("FlatXPath vs XPathParts", true, flatDuration, LEQ, partsDuration * 2);
+    }
+
+    /** getNondraftNonaltXPath doesn't lock, so it shouldn't be slower from several threads */
+    public void TestNondraftNonaltContention() {
+        final CLDRFile english = CLDRConfig.getInstance().getEnglish();
+        final List<String> paths = new ArrayList<>();
+        for (String p : testPaths) {
+            paths.add(english.getFullXPath(p));
+            paths.add(p + "[@alt=\"variant-proposed-u1\"]");
+        }
+        Timer t = new Timer();
+        t.start();
+        long sequential = 0;
+        for (int i = 0; i < ITERATIONS; ++i) {
+            for (String p : paths) {
+                sequential += CLDRFile.getNondraftNonaltXPath(p).length();
+            }
+        }
+        long sequentialDuration = t.stop();
+        logln("Sequential: " + t.toString(paths.size() * ITERATIONS));
+
+        t.start();
+        long parallel =
+                IntStream.range(0, ITERATIONS)
+                        .parallel()
+                        .mapToLong(
+                                i ->
+                                        paths.stream()
+                                                .mapToLong(
+                                                        p ->
+                                                                CLDRFile.getNondraftNonaltXPath(p)
+                                                                        .length())
+                                                .sum())
+                        .sum();
+        long parallelDuration = t.stop();
+        logln("Parallel: " + t.toString(paths.size() * ITERATIONS));
+        assertEquals("same results", sequential, parallel);
+        assertRelation(
+                "parallel vs sequential", true, parallelDuration, LEQ, sequentialDuration * 2);
+    }
+
     public void TestXPathPartsWithComparators() {
         for (String path : sortedArray) {
             XPathParts newParts = XPathParts.getFrozenInstance(path);
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -1193,6 +1194,63 @@ public class TestPersonNameFormatter extends TestFmwk {
         }
     }
 
+    /**
+     * Check formatAll against formatting one name at a time with a new formatter, for the modern
+     * locales, and log the times for each.
+     */
+    public void TestFormatAll() {
+        final List<FormatParameters> parametersList = new ArrayList<>(FormatParameters.allCldr());
+        for (FormatParameters parameters : FormatParameters.allCldr()) {
+            parametersList.add(parameters.setOrder(null)); // order derived from the name
+        }
+        long oneAtATime = 0;
+        long batch = 0;
+        int count = 0;
+        for (String locale : StandardCodes.make().getLocaleCoverageLocales(Organization.cldr)) {
+            if (Level.MODERN
+                    != StandardCodes.make().getLocaleCoverageLevel(Organization.cldr, locale)) {
+                continue;
+            }
+            CLDRFile cldrFile = factory.make(locale, true);
+            final List<SimpleNameObject> names =
+                    new ArrayList<>(PersonNameFormatter.getSampleNames(cldrFile).values());
+            if (names.isEmpty()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            final Map<FormatParameters, List<String>> expected = new LinkedHashMap<>();
+            final PersonNameFormatter formatter = new PersonNameFormatter(cldrFile);
+            for (FormatParameters parameters : parametersList) {
+                final List<String> formatted = new ArrayList<>();
+                for (SimpleNameObject name : names) {
+                    formatted.add(formatter.format(name, parameters));
+                }
+                expected.put(parameters, formatted);
+            }
+            oneAtATime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            final PersonNameFormatter cached = PersonNameFormatter.getInstance(cldrFile);
+            final Map<FormatParameters, List<String>> actual =
+                    cached.formatAll(names, parametersList);
+            batch += System.nanoTime() - start;
+
+            assertSame(
+                    locale + " formatter is cached",
+                    cached,
+                    PersonNameFormatter.getInstance(cldrFile));
+            assertEquals(locale + " formatAll", expected, actual);
+            count += parametersList.size() * names.size();
+        }
+        logln(
+                count
+                        + " names formatted one at a time in "
+                        + oneAtATime / 1_000_000
+                        + "ms, in batches in "
+                        + batch / 1_000_000
+                        + "ms");
+    }
+
     public void TestAll() {
         for (String locale : StandardCodes.make().getLocaleCoverageLocales(Organization.cldr)) {
             if (Level.MODERN
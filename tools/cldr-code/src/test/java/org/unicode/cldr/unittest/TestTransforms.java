@@ -276,6 +276,39 @@ public class TestTransforms extends TestFmwkPlus {
         Transliterator foo = Transliterator.getInstance("cs-cs_FONIPA");
     }
 
+    /** Single transforms can be had without registering all of them, from several threads */
+    public void TestLazyRegistration() {
+        // a fresh instance, so that other tests registering everything on the singleton don't
+        // hide whether registration was lazy
+        final CLDRTransforms transforms = new CLDRTransforms();
+        assertEquals("registered before", 0, transforms.getRegisteredFiles().size());
+
+        final String[][] idInputExpected = {
+            {"Hiragana-Latin", "ひらがな", "hiragana"},
+            {"Latin-Hiragana", "hiragana", "ひらがな"},
+            {"Hiragana-Katakana", "ひらがな", "ヒラガナ"},
+        };
+        final List<String> results =
+                Arrays.stream(idInputExpected)
+                        .parallel()
+                        .map(row -> transforms.getInstance(row[0]).transliterate(row[1]))
+                        .collect(Collectors.toList());
+        for (int i = 0; i < idInputExpected.length; i++) {
+            assertEquals(idInputExpected[i][0], idInputExpected[i][2], results.get(i));
+        }
+
+        final Set<String> registered = transforms.getRegisteredFiles();
+        logln("registered after: " + registered);
+        assertTrue("Hiragana-Latin.xml registered", registered.contains("Hiragana-Latin.xml"));
+        assertTrue(
+                "Hiragana-Katakana.xml registered", registered.contains("Hiragana-Katakana.xml"));
+        assertTrue(
+                "only needed files registered: " + registered.size(),
+                registered.size() < CLDRTransforms.getAvailableIds().size());
+        assertTrue(
+                "registered", transforms.getOverriddenTransliterators().contains("Hira-Latn"));
+    }
+
     boolean registered = false;
 
     void register() {
@@ -108,6 +108,7 @@ import org.unicode.cldr.util.SupplementalDataInfo.PluralInfo.Count;
 import org.unicode.cldr.util.SupplementalDataInfo.PluralType;
 import org.unicode.cldr.util.SupplementalDataInfo.UnitIdComponentType;
 import org.unicode.cldr.util.TempPrintWriter;
+import org.unicode.cldr.util.Timer;
 import org.unicode.cldr.util.UnitConverter;
 import org.unicode.cldr.util.UnitConverter.ConversionInfo;
 import org.unicode.cldr.util.UnitConverter.TargetInfo;
@@ -571,6 +572,89 @@ public class TestUnits extends TestFmwk {
         //        }
     }
 
+    /**
+     * Convert between all pairs of convertible units in units.xml, checking that the cached
+     * conversions match convertDirect, and log the times for the first and second passes.
+     */
+    public void TestConversionCache() {
+        final Rational value = Rational.of(7);
+        for (String pass : Arrays.asList("first", "cached")) {
+            int count = 0;
+            final Timer timer = new Timer();
+            timer.start();
+            for (String source : converter.canConvert()) {
+                for (String target : converter.canConvertBetween(source)) {
+                    final Rational result = converter.convert(value, source, target, false);
+                    if (!assertEquals(
+                            pass + ": " + source + " to " + target,
+                            converter.convertDirect(value, source, target),
+                            result)) {
+                        return;
+                    }
+                    ++count;
+                }
+            }
+            timer.stop();
+            logln(pass + " pass, " + count + " conversions: " + timer.toString(count));
+        }
+        assertEquals(
+                "compound",
+                Rational.of(5, 18),
+                converter.convert(Rational.ONE, "kilometer-per-hour", "meter-per-second", false));
+        Output<String> metric1 = new Output<>();
+        Output<String> metric2 = new Output<>();
+        assertTrue(
+                "parsed unit ids are cached",
+                converter.parseUnitId("kilowatt-hour-per-100-kilometer", metric1, false)
+                        == converter.parseUnitId("kilowatt-hour-per-100-kilometer", metric2, false));
+        assertEquals("metric unit", metric1.value, metric2.value);
+    }
+
+    /** Check the double conversions against the Rational ones, for all convertible pairs */
+    public void TestDoubleConversion() {
+        final double[] values = {0, 1, 7, -40, 0.001, 1234.5678, 1e12, -273.15};
+        // allows for a few bits lost to rounding and cancellation, see UnitConverter
+        final double tolerance = 1e-12;
+        int count = 0;
+        for (String source : converter.canConvert()) {
+            for (String target : converter.canConvertBetween(source)) {
+                for (double value : values) {
+                    final double expected =
+                            converter
+                                    .convert(Rational.of(value), source, target, false)
+                                    .doubleValue();
+                    final double actual = converter.convert(value, source, target);
+                    ++count;
+                    if (!(expected == actual
+                            || Math.abs(expected - actual) <= tolerance * Math.abs(expected))) {
+                        errln(
+                                source
+                                        + " to "
+                                        + target
+                                        + " of "
+                                        + value
+                                        + ": expected "
+                                        + expected
+                                        + ", got "
+                                        + actual);
+                        return;
+                    }
+                }
+            }
+        }
+        logln("checked " + count + " double conversions");
+        assertEquals(
+                "compound",
+                5.0 / 18,
+                converter.convert(1.0, "kilometer-per-hour", "meter-per-second"),
+                1e-15);
+        assertEquals("freezing", 32.0, converter.convert(0.0, "celsius", "fahrenheit"));
+        assertEquals("no cancellation", 0.0, converter.convert(32.0, "fahrenheit", "celsius"));
+        assertTrue(
+                "unconvertible",
+                Double.isNaN(converter.convert(1.0, "meter", "kilogram")));
+    }
+
     public void TestBaseUnits() {
         Splitter barSplitter = Splitter.on('-');
         for (String unit : converter.baseUnits()) {
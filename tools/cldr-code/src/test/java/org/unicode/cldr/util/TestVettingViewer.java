@@ -1,12 +1,21 @@
 package org.unicode.cldr.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import com.ibm.icu.impl.Relation;
 import com.ibm.icu.impl.Row.R2;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.unicode.cldr.test.OutdatedPaths;
 import org.unicode.cldr.unittest.TestHelper;
@@ -22,49 +31,7 @@ class TestVettingViewer {
 
         final String loc = "de";
         final CLDRLocale locale = CLDRLocale.getInstance(loc);
-        final PathHeader.Factory phf = PathHeader.getFactory();
-        final VoterInfoList vil = new VoterInfoList();
-        VettingViewer<Organization> vv =
-                new VettingViewer<>(
-                        SupplementalDataInfo.getInstance(),
-                        CLDRConfig.getInstance().getCldrFactory(),
-                        new VettingViewer.UsersChoice<Organization>() {
-
-                            @Override
-                            public String getWinningValueForUsersOrganization(
-                                    CLDRFile cldrFile, String path, Organization user) {
-                                return null;
-                            }
-
-                            @Override
-                            public VoteStatus getStatusForUsersOrganization(
-                                    CLDRFile cldrFile, String path, Organization user) {
-                                return VoteResolver.VoteStatus.losing;
-                            }
-
-                            @Override
-                            public boolean userDidVote(int userId, CLDRLocale loc, String path) {
-                                return false;
-                            }
-
-                            @Override
-                            public VoteType getUserVoteType(
-                                    int userId, CLDRLocale loc, String path) {
-                                return VoteType.NONE;
-                            }
-
-                            @Override
-                            public VoteResolver<String> getVoteResolver(
-                                    CLDRFile cldrFile, final CLDRLocale loc, final String path) {
-                                VoteResolver<String> r = new VoteResolver<>(vil);
-                                r.setLocale(locale, getPathHeader(path));
-                                return r;
-                            }
-
-                            protected final PathHeader getPathHeader(String xpath) {
-                                return phf.fromPath(xpath);
-                            }
-                        });
+        VettingViewer<Organization> vv = makeVettingViewer(locale);
 
         final Factory baselineFactory = CLDRConfig.getInstance().getCldrFactory();
         final Factory sourceFactory = baselineFactory;
@@ -101,4 +68,141 @@ class TestVettingViewer {
         // but won't fail the test.
         assumeTrue(foundAny, "Did not find any English Changed. May need to revamp the test.");
     }
+
+    @Test
+    void testDashboardPathCache() {
+        final String loc = "fr";
+        final CLDRLocale locale = CLDRLocale.getInstance(loc);
+        final VettingViewer<Organization> vv = makeVettingViewer(locale);
+        final Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        final EnumSet<NotificationCategory> choiceSet =
+                VettingViewer.getDashboardNotificationCategories(Organization.surveytool);
+        final Map<String, VettingViewer.PathNotifications> pathCache = new ConcurrentHashMap<>();
+
+        final List<String> expected = getDashboardProblems(vv, factory, locale, choiceSet, null);
+        final List<String> first = getDashboardProblems(vv, factory, locale, choiceSet, pathCache);
+        assertFalse(pathCache.isEmpty(), "paths were cached");
+        final int cachedSize = pathCache.size();
+        // remove one path, as if it had changed; the rest come from the cache
+        final String changed = pathCache.keySet().iterator().next();
+        pathCache.remove(changed);
+        final List<String> second = getDashboardProblems(vv, factory, locale, choiceSet, pathCache);
+        assertEquals(cachedSize, pathCache.size(), "changed path recomputed");
+        assertEquals(expected, first);
+        assertEquals(expected, second);
+    }
+
+    @Test
+    void testPriorityItemsSummaryReuse() throws ExecutionException {
+        // An organization with a single locale, rm, at modern coverage
+        final Organization org = Organization.rumantscha;
+        final VettingViewer<Organization> vv = makeVettingViewer(CLDRLocale.getInstance("rm"));
+        vv.setSummarizeAllLocales(false);
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicInteger nudged = new AtomicInteger();
+        vv.setProgressCallback(
+                new VettingViewer.ProgressCallback() {
+                    @Override
+                    public void nudge() {
+                        nudged.incrementAndGet();
+                    }
+
+                    @Override
+                    public void skipLocale() {
+                        skipped.incrementAndGet();
+                    }
+                });
+        final Map<String, String> stamps = new ConcurrentHashMap<>();
+        vv.setSummaryCache(new ConcurrentHashMap<>(), id -> stamps.getOrDefault(id, "a"));
+        final EnumSet<NotificationCategory> choices =
+                VettingViewer.getPriorityItemsSummaryCategories(org);
+
+        final StringBuilder first = new StringBuilder();
+        vv.generatePriorityItemsSummary(first, choices, org);
+        assertEquals(0, skipped.get(), "nothing to reuse the first time");
+        assertTrue(nudged.get() > 0, "rm was summarized");
+
+        // unchanged stamp: reused, without looking at any paths
+        nudged.set(0);
+        final StringBuilder second = new StringBuilder();
+        vv.generatePriorityItemsSummary(second, choices, org);
+        assertEquals(1, skipped.get(), "rm reused");
+        assertEquals(0, nudged.get(), "no paths");
+        assertEquals(first.toString(), second.toString());
+
+        // changed stamp: summarized again
+        stamps.put("rm", "b");
+        final StringBuilder third = new StringBuilder();
+        vv.generatePriorityItemsSummary(third, choices, org);
+        assertEquals(1, skipped.get(), "rm not reused");
+        assertTrue(nudged.get() > 0, "rm was summarized again");
+        assertEquals(first.toString(), third.toString());
+    }
+
+    /**
+     * @return the path and problems of each Dashboard entry
+     */
+    private static List<String> getDashboardProblems(
+            VettingViewer<Organization> vv,
+            Factory factory,
+            CLDRLocale locale,
+            EnumSet<NotificationCategory> choiceSet,
+            Map<String, VettingViewer.PathNotifications> pathCache) {
+        final VettingParameters args = new VettingParameters(choiceSet, locale, Level.MODERN);
+        args.setUserAndOrganization(0 /* userId */, Organization.surveytool);
+        args.setFiles(
+                factory.make(locale.getBaseName(), true), factory.make(locale.getBaseName(), true));
+        args.setPathCache(pathCache);
+        final List<String> result = new ArrayList<>();
+        for (Entry<R2<SectionId, PageId>, VettingViewer<Organization>.WritingInfo> e :
+                vv.generateDashboard(args).sorted.entrySet()) {
+            result.add(e.getValue().codeOutput.getOriginalPath() + " " + e.getValue().problems);
+        }
+        return result;
+    }
+
+    /** A VettingViewer where the user's organization is losing every path */
+    private static VettingViewer<Organization> makeVettingViewer(CLDRLocale locale) {
+        final PathHeader.Factory phf = PathHeader.getFactory();
+        final VoterInfoList vil = new VoterInfoList();
+        return new VettingViewer<>(
+                SupplementalDataInfo.getInstance(),
+                CLDRConfig.getInstance().getCldrFactory(),
+                new VettingViewer.UsersChoice<Organization>() {
+
+                    @Override
+                    public String getWinningValueForUsersOrganization(
+                            CLDRFile cldrFile, String path, Organization user) {
+                        return null;
+                    }
+
+                    @Override
+                    public VoteStatus getStatusForUsersOrganization(
+                            CLDRFile cldrFile, String path, Organization user) {
+                        return VoteResolver.VoteStatus.losing;
+                    }
+
+                    @Override
+                    public boolean userDidVote(int userId, CLDRLocale loc, String path) {
+                        return false;
+                    }
+
+                    @Override
+                    public VoteType getUserVoteType(int userId, CLDRLocale loc, String path) {
+                        return VoteType.NONE;
+                    }
+
+                    @Override
+                    public VoteResolver<String> getVoteResolver(
+                            CLDRFile cldrFile, final CLDRLocale loc, final String path) {
+                        VoteResolver<String> r = new VoteResolver<>(vil);
+                        r.setLocale(locale, getPathHeader(path));
+                        return r;
+                    }
+
+                    protected final PathHeader getPathHeader(String xpath) {
+                        return phf.fromPath(xpath);
+                    }
+                });
+    }
 }
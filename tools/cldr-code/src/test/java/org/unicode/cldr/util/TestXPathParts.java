@@ -0,0 +1,197 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the XPathParts and distinguishing path caches
+ *
+ * @see {@link org.unicode.cldr.unittest.TestPerf#TestXPathParts()}
+ */
+public class TestXPathParts {
+
+    @Test
+    public void TestFrozenInstanceIsCached() {
+        final String path =
+                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"1\"]";
+        final long hits = XPathParts.getCacheStats().hitCount();
+        final XPathParts first = XPathParts.getFrozenInstance(path);
+        final XPathParts second = XPathParts.getFrozenInstance(path);
+        assertSame(first, second, "same frozen instance");
+        assertTrue(XPathParts.getCacheStats().hitCount() > hits, "cache hit recorded");
+        assertEquals(path, second.toString());
+    }
+
+    @Test
+    public void TestAttributesAreShared() {
+        final XPathParts a =
+                XPathParts.getFrozenInstance(
+                        "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"2\"]");
+        final XPathParts b =
+                XPathParts.getFrozenInstance(
+                        "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/eras/eraAbbr/era[@type=\"0\"]");
+        assertSame(a.getAttributes(3), b.getAttributes(3), "calendar attributes shared");
+        assertEquals("gregorian", b.getAttributeValue(3, "type"));
+    }
+
+    @Test
+    public void TestDistinguishingXPath() {
+        final String path =
+                "//ldml/localeDisplayNames/languages/language[@type=\"en\"][@draft=\"contributed\"]";
+        final String[] normalized = new String[1];
+        assertEquals(
+                "//ldml/localeDisplayNames/languages/language[@type=\"en\"]",
+                CLDRFile.getDistinguishingXPath(path, normalized));
+        assertEquals(path, normalized[0]);
+        // again, from the cache
+        assertEquals(
+                "//ldml/localeDisplayNames/languages/language[@type=\"en\"]",
+                CLDRFile.getDistinguishingXPath(path, normalized));
+        assertEquals(path, normalized[0]);
+        assertEquals("", CLDRFile.getDistinguishingXPath("", normalized));
+        assertEquals("", normalized[0]);
+    }
+
+    @Test
+    public void TestFlatXPath() {
+        final String path =
+                "//ldml/numbers/currencyFormats[@numberSystem=\"latn\"]/currencyFormatLength/currencyFormat[@type=\"accounting\"]/pattern[@type=\"standard\"][@alt=\"noCurrency\"]";
+        final FlatXPath f = FlatXPath.parse(path);
+        assertEquals(6, f.size());
+        assertSame("currencyFormats", f.getElement(2));
+        assertEquals(1, f.getAttributeCount(2));
+        assertSame("numberSystem", f.getAttributeName(2, 0));
+        assertEquals("latn", f.getAttributeValue(2, 0));
+        assertEquals(0, f.getAttributeCount(3));
+        assertEquals(2, f.getAttributeCount(5));
+        assertEquals("noCurrency", f.getAttributeValue(5, 1));
+
+        // not canonical
+        assertNull(FlatXPath.parse("/ldml/numbers"));
+        assertNull(FlatXPath.parse("//ldml/numbers[@type='x']"));
+        assertNull(FlatXPath.parse("//ldml/numbers[@type=\"x\"]x"));
+        assertNull(FlatXPath.parse("//ldml/numbers/"));
+    }
+
+    /** Attribute values may contain '[' and ']', as in annotations */
+    @Test
+    public void TestFlatXPathBrackets() {
+        for (String cp : new String[] {"]", "[", "[]", "][", "a]b"}) {
+            final String path = "//ldml/annotations/annotation[@cp=\"" + cp + "\"][@type=\"tts\"]";
+            final FlatXPath f = FlatXPath.parse(path);
+            assertEquals(2, f.getAttributeCount(2), path);
+            assertEquals(cp, f.getAttributeValue(2, 0), path);
+            assertEquals("tts", f.getAttributeValue(2, 1), path);
+
+            final String fullPath = path + "[@draft=\"contributed\"]";
+            assertEquals(path, FlatXPath.getDistinguishingXPath(fullPath), fullPath);
+            assertEquals(path, CLDRFile.getDistinguishingXPathByParts(fullPath), fullPath);
+            assertEquals(path, FlatXPath.getDistinguishingXPath(path), path);
+        }
+    }
+
+    /** The FlatXPath shortcut gives the same distinguishing paths as XPathParts */
+    @ParameterizedTest
+    @ValueSource(strings = {"en", "fr", "ja", "root"})
+    public void TestFlatDistinguishingXPath(String locale) {
+        final CLDRFile file = CLDRConfig.getInstance().getCldrFactory().make(locale, false);
+        int flat = 0;
+        int total = 0;
+        for (String path : file) {
+            for (String p : new String[] {path, file.getFullXPath(path)}) {
+                ++total;
+                final String result = FlatXPath.getDistinguishingXPath(p);
+                if (result != null) {
+                    ++flat;
+                    assertEquals(CLDRFile.getDistinguishingXPathByParts(p), result, p);
+                }
+            }
+        }
+        assertTrue(flat * 2 > total, "most paths use FlatXPath: " + flat + "/" + total);
+    }
+
+    @Test
+    public void TestFlatNondraftNonalt() {
+        final String path = "//ldml/localeDisplayNames/languages/language[@type=\"en\"]";
+        assertEquals(path, CLDRFile.getNondraftNonaltXPath(path + "[@draft=\"contributed\"]"));
+        assertEquals(path, CLDRFile.getNondraftNonaltXPath(path + "[@alt=\"proposed-x1\"]"));
+        assertEquals(
+                path + "[@alt=\"short\"]",
+                CLDRFile.getNondraftNonaltXPath(path + "[@alt=\"short-proposed-x1\"]"));
+        assertEquals(
+                path + "[@alt=\"short\"]",
+                CLDRFile.getNondraftNonaltXPath(path + "[@alt=\"short\"]"));
+
+        // '[' and ']' in values, as in annotations
+        for (String cp : new String[] {"]", "[", "[]"}) {
+            final String annotation = "//ldml/annotations/annotation[@cp=\"" + cp + "\"]";
+            for (String p :
+                    new String[] {
+                        annotation + "[@draft=\"contributed\"]",
+                        annotation + "[@type=\"tts\"][@alt=\"proposed-x1\"]",
+                        annotation + "[@type=\"tts\"][@alt=\"variant-proposed-x1\"]"
+                    }) {
+                assertEquals(
+                        CLDRFile.getNondraftNonaltXPathByParts(p),
+                        FlatXPath.getNondraftNonaltXPath(p),
+                        p);
+            }
+            assertEquals(
+                    annotation,
+                    FlatXPath.getNondraftNonaltXPath(annotation + "[@draft=\"contributed\"]"));
+            assertEquals(
+                    annotation + "[@type=\"tts\"][@alt=\"variant\"]",
+                    FlatXPath.getNondraftNonaltXPath(
+                            annotation + "[@type=\"tts\"][@alt=\"variant-proposed-x1\"]"));
+        }
+    }
+
+    /** The same, for the annotations of en, whose values include '[' and ']' */
+    @Test
+    public void TestFlatNondraftNonaltAnnotations() {
+        final CLDRFile file = CLDRConfig.getInstance().getAnnotationsFactory().make("en", false);
+        for (String path : file) {
+            final String fullPath = file.getFullXPath(path);
+            final String result = FlatXPath.getNondraftNonaltXPath(fullPath);
+            if (result != null) {
+                assertEquals(CLDRFile.getNondraftNonaltXPathByParts(fullPath), result, fullPath);
+            }
+            final String distinguishing = FlatXPath.getDistinguishingXPath(fullPath);
+            if (distinguishing != null) {
+                assertEquals(path, distinguishing, fullPath);
+            }
+        }
+    }
+
+    /** The FlatXPath shortcut gives the same nondraft, nonalt paths as XPathParts */
+    @ParameterizedTest
+    @ValueSource(strings = {"en", "fr", "ja"})
+    public void TestFlatNondraftNonaltXPath(String locale) {
+        final CLDRFile file = CLDRConfig.getInstance().getCldrFactory().make(locale, false);
+        int flat = 0;
+        int total = 0;
+        for (String path : file) {
+            final String fullPath = file.getFullXPath(path);
+            for (String p :
+                    new String[] {
+                        fullPath,
+                        path + "[@alt=\"proposed-u1-implicit1.0\"]",
+                        path + "[@alt=\"variant-proposed-u1\"]"
+                    }) {
+                ++total;
+                final String result = FlatXPath.getNondraftNonaltXPath(p);
+                if (result != null) {
+                    ++flat;
+                    assertEquals(CLDRFile.getNondraftNonaltXPathByParts(p), result, p);
+                }
+            }
+        }
+        assertTrue(flat * 2 > total, "most paths use FlatXPath: " + flat + "/" + total);
+    }
+}